@@ -1,20 +1,21 @@
 package dukeprogram;
 
 import java.io.IOException;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.List;
 
+import dukeprogram.command.CommandRegistry;
 import dukeprogram.command.ContinuableCommand;
 import dukeprogram.command.LoadUserCommand;
 import dukeprogram.facilities.LoanCollection;
 import dukeprogram.facilities.TaskList;
+import dukeprogram.facilities.UndoHistory;
 import dukeprogram.facilities.User;
 import dukeprogram.parser.Parser;
 import dukeprogram.storage.SaveManager;
 import dukeprogram.userinterface.DukeResponse;
-import dukeprogram.userinterface.MainWindow;
+import dukeprogram.userinterface.ResponseSink;
 import dukeprogram.userinterface.TextStyle;
-import dukeprogram.userinterface.Widget;
+import dukeprogram.userinterface.WidgetElement;
 import exceptions.IncompleteCommandException;
 import exceptions.InvalidCommandException;
 
@@ -22,21 +23,33 @@ import exceptions.InvalidCommandException;
  * This is the main Duke Program
  */
 public class Duke {
-    private final MainWindow mainWindow;
+    /**
+     * The time between autosaves, for the front ends that autosave
+     */
+    public static final long AUTOSAVE_INTERVAL_MILLIS = 300_000;
+
+    private final ResponseSink responseSink;
 
     private User user;
     private TaskList taskList;
     private LoanCollection loanCollection;
     private final Parser parser;
+    private final UndoHistory undoHistory = new UndoHistory(UndoHistory.DEFAULT_CAPACITY);
 
     private ContinuableCommand attachedState = null;
 
+    private int saveInterval = 1;
+    private int pendingSaves = 0;
+    private long numberOfSaves = 0;
+
+    private Runnable exitHandler = null;
+
     /**
      * Creates an instance of Duke
-     * @param mainWindow the window is attached this instance
+     * @param responseSink the sink that renders every response of this instance
      */
-    public Duke(MainWindow mainWindow) {
-        this.mainWindow = mainWindow;
+    public Duke(ResponseSink responseSink) {
+        this.responseSink = responseSink;
         this.parser = new Parser(this);
         LoadUserCommand loadUserCommand = new LoadUserCommand(this);
         loadUserCommand.load().ifPresentOrElse(
@@ -48,44 +61,35 @@ public class Duke {
                 //CHECKSTYLE.OFF: SeparatorWrap
                 () -> sendMessage("I can't identify you, file was corrupted...")
         );
-
-        Timer saveTimer = new Timer();
-        saveTimer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                serializeToFile();
-                sendMessage("Oh, by the way, I just saved your file.");
-            }
-        }, 300_000, 300_000);
     }
 
 
     /**
-     * Sends a message to the GUI of this current instance
+     * Sends a message to the response sink of this current instance
      */
     public void sendMessage(String message, TextStyle style) {
-        mainWindow.sendDukeDialog(new DukeResponse(message, style));
+        responseSink.send(new DukeResponse(message, style));
     }
 
     /**
-     * Sends a message to the GUI of this current instance
+     * Sends a message to the response sink of this current instance
      */
-    public void sendMessage(String message, TextStyle style, Widget widget) {
-        mainWindow.sendDukeDialog(new DukeResponse(message, widget, style));
+    public void sendMessage(String message, TextStyle style, List<? extends WidgetElement> widget) {
+        responseSink.send(new DukeResponse(message, widget, style));
     }
 
     /**
-     * Sends a message to the GUI of this current instance
+     * Sends a message to the response sink of this current instance
      */
     public void sendMessage(String message) {
-        mainWindow.sendDukeDialog(new DukeResponse(message, TextStyle.Regular));
+        responseSink.send(new DukeResponse(message, TextStyle.Regular));
     }
 
     /**
-     * Sends a message to the GUI of this current instance
+     * Sends a message to the response sink of this current instance
      */
-    public void sendMessage(String message, Widget widget) {
-        mainWindow.sendDukeDialog(new DukeResponse(message, widget, TextStyle.Regular));
+    public void sendMessage(String message, List<? extends WidgetElement> widget) {
+        responseSink.send(new DukeResponse(message, widget, TextStyle.Regular));
     }
 
 
@@ -95,12 +99,10 @@ public class Duke {
      */
     public void parseInput(String userInput) {
         if (attachedState != null) {
-            System.out.println("Caught attachment");
             try {
                 attachedState.continueParse(parser.convertToIterator(userInput));
             } catch (InvalidCommandException e) {
                 // ignores the attached state and resends input as a new command
-                System.out.println("Ignored");
                 parseInput(userInput);
             } finally {
                 attachedState = null;
@@ -132,20 +134,99 @@ public class Duke {
         return loanCollection;
     }
 
+    public UndoHistory getUndoHistory() {
+        return undoHistory;
+    }
+
     public User getUser() {
         return user;
     }
 
+    public CommandRegistry getCommandRegistry() {
+        return parser.getCommandRegistry();
+    }
+
+    /**
+     * Sets what is done to close this instance of Duke when the user says goodbye,
+     * which the front end decides as only it knows how to close itself
+     * @param exitHandler the handler to close Duke with, or null if Duke cannot be closed by a command
+     */
+    public void setExitHandler(Runnable exitHandler) {
+        this.exitHandler = exitHandler;
+    }
+
+    public boolean canExit() {
+        return exitHandler != null;
+    }
+
+    /**
+     * Closes this instance of Duke with its exit handler
+     */
+    public void exit() {
+        assert exitHandler != null : "Duke cannot be closed from here!";
+
+        exitHandler.run();
+    }
+
+    /**
+     * Defers saving to disk, so that only every given number of saves is written.
+     * The deferred saves are written when commitPendingSaves is called.
+     * @param saveInterval the number of saves to make before writing to disk
+     */
+    public void setSaveInterval(int saveInterval) {
+        assert saveInterval > 0;
+        this.saveInterval = saveInterval;
+    }
+
     /**
-     * Saves this file to disk by calling the serialize method on the SaveManager
+     * Saves this file to disk by calling the serialize method on the SaveManager,
+     * unless the save is deferred by the save interval
      */
     public void serializeToFile() {
+        numberOfSaves++;
+        if (++pendingSaves < saveInterval) {
+            return;
+        }
+        commitPendingSaves();
+    }
+
+    /**
+     * Retrieves the number of saves made by the commands, written or deferred,
+     * which changes whenever a command changes anything that is saved
+     * @return the number of saves made since this instance of Duke was created
+     */
+    public long getNumberOfSaves() {
+        return numberOfSaves;
+    }
+
+    public boolean hasPendingSaves() {
+        return pendingSaves > 0;
+    }
+
+    /**
+     * Writes any deferred saves to disk
+     * @return whether the save file was written
+     */
+    public boolean commitPendingSaves() {
+        pendingSaves = 0;
         try {
             SaveManager.serialize("savefile.json");
+            return true;
         } catch (IOException e) {
             sendMessage("Hey, I tried to save this file, but I couldn't for some reason...");
             sendMessage("Is the save file open on your computer?");
-            System.out.println(e);
+            System.err.println(e);
+            return false;
+        }
+    }
+
+    /**
+     * Writes the deferred saves to disk if there are any, and tells the user about it.
+     * Like every other method of Duke, this must be called on the thread that executes the commands.
+     */
+    public void autosave() {
+        if (hasPendingSaves() && commitPendingSaves()) {
+            sendMessage("Oh, by the way, I just saved your file.");
         }
     }
 }
@@ -1,5 +1,6 @@
 package dukeprogram;
 
+import dukeprogram.server.ApiServer;
 import javafx.application.Application;
 
 /**
@@ -8,10 +9,25 @@ import javafx.application.Application;
 public class Launcher {
 
     /**
-     * Launches the main program
+     * Launches the main program, or runs a script of commands without the GUI
+     * if "--script &lt;file&gt;" or "--batch" is given, or serves the API if "--serve" is given
      * @param args variable args
      */
     public static void main(String[] args) {
-        Application.launch(Main.class, args);
+        String mode = args.length > 0 ? args[0] : "";
+        switch (mode) {
+        case "--script":
+        case "--batch":
+            ScriptRunner.main(args);
+            break;
+
+        case "--serve":
+            ApiServer.main(args);
+            break;
+
+        default:
+            Application.launch(Main.class, args);
+            break;
+        }
     }
 }
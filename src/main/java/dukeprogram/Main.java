@@ -2,8 +2,13 @@ package dukeprogram;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
+import dukeprogram.userinterface.AnimationGovernor;
+import dukeprogram.userinterface.MainWindow;
+import dukeprogram.userinterface.ProfilePictures;
+import dukeprogram.userinterface.ResponseScheduler;
 import javafx.application.Application;
 import javafx.application.HostServices;
 import javafx.fxml.FXMLLoader;
@@ -19,11 +24,24 @@ public class Main extends Application {
 
     private static final ArrayList<Application> applications = new ArrayList<>();
 
+    private MainWindow mainWindow;
+    private boolean isShowingMetrics;
+
     @Override
     public void start(Stage stage) {
+        StartupTimer.SHARED.mark("toolkit started");
+        ProfilePictures.preload();
         try {
             FXMLLoader fxmlLoader = new FXMLLoader(Main.class.getResource("/view/MainWindow.fxml"));
             AnchorPane ap = fxmlLoader.load();
+            mainWindow = fxmlLoader.getController();
+            StartupTimer.SHARED.mark("main window built");
+            mainWindow.setPacingPolicy(parsePacingPolicy(getParameters().getRaw()));
+            AnimationGovernor.SHARED.setReducedMotion(getParameters().getRaw().contains("--reduced-motion"));
+            isShowingMetrics = getParameters().getRaw().contains("--metrics");
+            if (isShowingMetrics) {
+                StartupTimer.SHARED.reportTo(System.err);
+            }
             ap.setId("backgroundWindow");
             Scene scene = new Scene(ap);
             scene.getStylesheets().add("/css/ElementStyle.css");
@@ -32,17 +50,52 @@ public class Main extends Application {
             stage.setMinHeight(650);
             stage.setTitle("Duke");
 
+            // the icon is decoded in the background, as it is not needed to show the first frame
             stage.getIcons().add(new Image(
-                    Objects.requireNonNull(Main.class.getResourceAsStream("/images/icon.png")))
+                    Objects.requireNonNull(Main.class.getResource("/images/icon.png")).toExternalForm(), true)
             );
 
             stage.show();
+            StartupTimer.SHARED.mark("window shown");
             applications.add(this);
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
+    /**
+     * Prints the metrics of the response scheduler and the animations if "--metrics" was given
+     */
+    @Override
+    public void stop() {
+        if (!isShowingMetrics) {
+            return;
+        }
+        if (mainWindow != null) {
+            System.out.println(mainWindow.getResponseScheduler());
+        }
+        System.out.println(AnimationGovernor.SHARED);
+    }
+
+    /**
+     * Parses the pacing policy given as "--pacing &lt;fixed|adaptive|instant&gt;"
+     * @param args the command line arguments
+     * @return the pacing policy given, or adaptive pacing if none was given
+     */
+    private static ResponseScheduler.PacingPolicy parsePacingPolicy(List<String> args) {
+        int index = args.indexOf("--pacing");
+        if (index < 0 || index + 1 >= args.size()) {
+            return ResponseScheduler.PacingPolicy.Adaptive;
+        }
+
+        for (ResponseScheduler.PacingPolicy pacingPolicy : ResponseScheduler.PacingPolicy.values()) {
+            if (pacingPolicy.name().equalsIgnoreCase(args.get(index + 1))) {
+                return pacingPolicy;
+            }
+        }
+        return ResponseScheduler.PacingPolicy.Adaptive;
+    }
+
     public static HostServices getPrimaryHostService() {
         assert applications.size() > 0;
 
@@ -0,0 +1,134 @@
+package dukeprogram;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+import dukeprogram.userinterface.JsonResponseSink;
+import dukeprogram.userinterface.ResponseSink;
+import dukeprogram.userinterface.TextResponseSink;
+
+/**
+ * ScriptRunner executes a file of commands, or the standard input, line by line without the GUI.
+ * Every response is rendered to a response sink as soon as it is sent, and saving to disk is
+ * deferred so that the whole script is written once at the end, or once every few commands.
+ * Saying goodbye ends the script early, after which the deferred saves are still written.
+ * If the save file cannot be written at the end, the script exits with a non-zero status.
+ */
+public class ScriptRunner {
+
+    private static final String USAGE = "Usage: --script <file> | --batch [--commit-every <n>] [--json]";
+
+    private final ResponseSink responseSink;
+    private final int commitInterval;
+
+    private boolean hasExited;
+    private boolean isSaved;
+
+    /**
+     * Creates a ScriptRunner
+     * @param responseSink the sink to render the responses of the commands to
+     * @param commitInterval the number of saves made by the commands before writing to disk
+     */
+    public ScriptRunner(ResponseSink responseSink, int commitInterval) {
+        this.responseSink = responseSink;
+        this.commitInterval = commitInterval;
+    }
+
+    /**
+     * Executes every line of the reader as a command
+     * @param reader the reader to read the commands from
+     * @return the number of commands executed
+     * @throws IOException if the commands could not be read
+     */
+    public int run(BufferedReader reader) throws IOException {
+        Duke duke = new Duke(responseSink);
+        duke.setSaveInterval(commitInterval);
+        hasExited = false;
+        duke.setExitHandler(() -> hasExited = true);
+
+        int numberOfCommands = 0;
+        String line;
+        while (!hasExited && (line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            duke.parseInput(line);
+            numberOfCommands++;
+        }
+
+        isSaved = duke.commitPendingSaves();
+        return numberOfCommands;
+    }
+
+    /**
+     * Retrieves whether the save file was written when the last script ended
+     * @return whether every save made by the script was written to disk
+     */
+    public boolean isSaved() {
+        return isSaved;
+    }
+
+    /**
+     * Runs a script given the arguments
+     * <code>--script &lt;file&gt; [--commit-every &lt;n&gt;] [--json]</code> or
+     * <code>--batch [--commit-every &lt;n&gt;] [--json]</code> to read from the standard input
+     * @param args the command line arguments
+     */
+    public static void main(String[] args) {
+        String scriptPath = null;
+        int commitInterval = Integer.MAX_VALUE;
+        boolean isJson = false;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                case "--script":
+                    scriptPath = args[++i];
+                    break;
+
+                case "--commit-every":
+                    commitInterval = Integer.parseInt(args[++i]);
+                    break;
+
+                case "--json":
+                    isJson = true;
+                    break;
+
+                case "--batch":
+                    break;
+
+                default:
+                    System.err.println(USAGE);
+                    return;
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            System.err.println(USAGE);
+            return;
+        }
+
+        ResponseSink responseSink = isJson
+                ? new JsonResponseSink(System.out)
+                : new TextResponseSink(System.out);
+
+        try (Reader source = scriptPath == null
+                ? new InputStreamReader(System.in, StandardCharsets.UTF_8)
+                : new FileReader(scriptPath, StandardCharsets.UTF_8);
+             BufferedReader reader = new BufferedReader(source)) {
+            long startTime = System.nanoTime();
+            ScriptRunner scriptRunner = new ScriptRunner(responseSink, Math.max(commitInterval, 1));
+            int numberOfCommands = scriptRunner.run(reader);
+            long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+            System.err.printf("Executed %d commands in %d ms%n", numberOfCommands, elapsedMillis);
+            if (!scriptRunner.isSaved()) {
+                System.exit(1);
+            }
+        } catch (IOException e) {
+            System.err.println("I couldn't read the script: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package dukeprogram;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * StartupTimer records how long each phase of starting up took, measured in wall-clock time
+ * since the virtual machine was started, and checks that the first frame the user can interact with
+ * was shown within the startup budget. Nothing is printed unless the phases are reported to an output.
+ */
+public class StartupTimer {
+
+    /** The timer of the startup of the application */
+    public static final StartupTimer SHARED = new StartupTimer(
+            ManagementFactory.getRuntimeMXBean().getStartTime(), System::currentTimeMillis);
+
+    /** The time within which the first interactive frame should be shown */
+    public static final long FIRST_INTERACTIVE_FRAME_BUDGET_MILLIS = 1500;
+
+    private final long startMillis;
+    private final LongSupplier clock;
+    private final Map<String, Long> phaseMillis = new LinkedHashMap<>();
+    private PrintStream output;
+
+    /**
+     * Creates a StartupTimer
+     * @param startMillis the time that starting up began at
+     * @param clock the clock to read the current time in milliseconds from
+     */
+    public StartupTimer(long startMillis, LongSupplier clock) {
+        this.startMillis = startMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Records that a phase of starting up has just finished
+     * @param phase the name of the phase
+     * @return the time since starting up began, in milliseconds
+     */
+    public synchronized long mark(String phase) {
+        long elapsedMillis = clock.getAsLong() - startMillis;
+        if (phaseMillis.putIfAbsent(phase, elapsedMillis) == null && output != null) {
+            printPhase(phase, elapsedMillis);
+        }
+        return elapsedMillis;
+    }
+
+    /**
+     * Prints the phases recorded so far, and every phase recorded from now on, to the given output
+     * @param output the output to print to, such as the standard error
+     */
+    public synchronized void reportTo(PrintStream output) {
+        this.output = output;
+        phaseMillis.forEach(this::printPhase);
+    }
+
+    /**
+     * Records that the first interactive frame has been shown, and reports whether
+     * it was shown within the startup budget
+     * @return whether the first interactive frame was shown within the budget
+     */
+    public synchronized boolean markFirstInteractiveFrame() {
+        boolean isWithinBudget = mark("first interactive frame") <= FIRST_INTERACTIVE_FRAME_BUDGET_MILLIS;
+        if (!isWithinBudget && output != null) {
+            output.printf("Startup: over the budget of %d ms%n", FIRST_INTERACTIVE_FRAME_BUDGET_MILLIS);
+        }
+        return isWithinBudget;
+    }
+
+    /**
+     * Retrieves the times at which each recorded phase finished
+     * @return the milliseconds since starting up began, by phase, in the order they were recorded
+     */
+    public synchronized Map<String, Long> getPhaseMillis() {
+        return new LinkedHashMap<>(phaseMillis);
+    }
+
+    private void printPhase(String phase, long elapsedMillis) {
+        output.printf("Startup: %-28s %6d ms%n", phase, elapsedMillis);
+    }
+}
@@ -0,0 +1,119 @@
+package dukeprogram.command;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import exceptions.IncompleteCommandException;
+import exceptions.InvalidCommandException;
+import utilities.Tokenizer;
+
+/**
+ * CommandRegistry compiles every command path (such as "tasks add deadline") into a prefix trie,
+ * so that an input can be dispatched to its handler with a single walk over its elements.
+ * The registered handlers are reused across all invocations.
+ */
+public class CommandRegistry {
+
+    private final Node root = new Node();
+
+    /**
+     * A node of the trie, holding the handler for the path leading to it
+     */
+    private static class Node {
+        private final Map<String, Node> children = new LinkedHashMap<>();
+        private Command handler;
+    }
+
+    /**
+     * Registers a handler under the given command path
+     * @param path the words of the command, separated by spaces
+     * @param handler the command to execute when the path is given
+     */
+    public void register(String path, Command handler) {
+        Node current = root;
+        for (String word : path.split(" ")) {
+            current = current.children.computeIfAbsent(word, w -> new Node());
+        }
+        current.handler = handler;
+    }
+
+    /**
+     * Walks the trie along the elements given and passes the remaining elements
+     * to the handler of the deepest matching command path
+     * @param elements the elements of the user input
+     * @throws IncompleteCommandException if nothing was given
+     * @throws InvalidCommandException if no command path matches the elements
+     */
+    public void dispatch(Tokenizer elements)
+            throws IncompleteCommandException, InvalidCommandException {
+        if (!elements.hasNext()) {
+            throw new IncompleteCommandException();
+        }
+
+        Node current = root;
+        Node next;
+        while (elements.hasNext() && (next = current.children.get(elements.peek())) != null) {
+            current = next;
+            elements.skip();
+        }
+
+        if (current.handler == null && !elements.hasNext()) {
+            throw new IncompleteCommandException();
+        } else if (current.handler == null) {
+            throw new InvalidCommandException(String.format("\"%s\" is not a valid command!", elements.next()));
+        }
+
+        current.handler.parse(elements);
+    }
+
+    /**
+     * Retrieves the words that can follow the given command path
+     * @param path the words of the command, separated by spaces, or an empty string for the root
+     * @return the words that can follow the path, in order of registration
+     */
+    public List<String> getSubcommands(String path) {
+        Node node = find(path);
+        return node == null ? List.of() : new ArrayList<>(node.children.keySet());
+    }
+
+    /**
+     * Finds all the words that can complete the last word of a partially typed input
+     * @param partialInput the input that has been typed so far
+     * @return the completed inputs, in order of registration
+     */
+    public List<String> complete(String partialInput) {
+        int lastSpace = partialInput.lastIndexOf(' ');
+        String path = partialInput.substring(0, Math.max(lastSpace, 0));
+        String prefix = partialInput.substring(lastSpace + 1);
+
+        List<String> completions = new ArrayList<>();
+        Node node = find(path);
+        if (node == null) {
+            return completions;
+        }
+
+        for (String word : node.children.keySet()) {
+            if (word.startsWith(prefix)) {
+                completions.add(partialInput.substring(0, lastSpace + 1) + word);
+            }
+        }
+        return completions;
+    }
+
+    private Node find(String path) {
+        Node current = root;
+        if (path.isBlank()) {
+            return current;
+        }
+
+        for (String word : path.trim().split(" ")) {
+            current = current.children.get(word);
+            if (current == null) {
+                return null;
+            }
+        }
+        return current;
+    }
+}
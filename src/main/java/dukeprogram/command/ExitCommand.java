@@ -0,0 +1,32 @@
+package dukeprogram.command;
+
+import java.util.Iterator;
+
+import dukeprogram.Duke;
+
+/**
+ * ExitCommand saves the current data and closes the program, in the way that the front end running Duke decides
+ */
+public class ExitCommand extends Command {
+
+    /**
+     * Creates an ExitCommand
+     *
+     * @param duke the instance of duke this is associated to
+     */
+    public ExitCommand(Duke duke) {
+        super(duke);
+    }
+
+    @Override
+    public void parse(Iterator<String> elements) {
+        if (!duke.canExit()) {
+            duke.sendMessage("I can't be closed from here...");
+            return;
+        }
+
+        duke.sendMessage("Goodbye!");
+        duke.serializeToFile();
+        duke.exit();
+    }
+}
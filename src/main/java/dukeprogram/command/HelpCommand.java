@@ -0,0 +1,40 @@
+package dukeprogram.command;
+
+import java.util.Iterator;
+import java.util.List;
+
+import dukeprogram.Duke;
+import dukeprogram.userinterface.WidgetElement;
+import dukeprogram.userinterface.WidgetLink;
+
+/**
+ * HelpCommand prints the facilities that Duke is able to manage
+ */
+public class HelpCommand extends Command {
+
+    /**
+     * Creates a HelpCommand
+     *
+     * @param duke the instance of duke this is associated to
+     */
+    public HelpCommand(Duke duke) {
+        super(duke);
+    }
+
+    @Override
+    public void parse(Iterator<String> elements) {
+        duke.sendMessage("I am able to record tasks or loans.");
+        duke.sendMessage("Type \"tasks help\" for more information regarding tasks.\n"
+                        + "\nOtherwise, type \"loans help\" for more information regarding loans.\n"
+                        + "\nHere is the user guide on how to use this program.",
+                createWidgetForUserGuide());
+    }
+
+    /**
+     * Creates a widget containing a link that opens the user guide
+     * @return a widget linking to the user guide
+     */
+    public static List<WidgetElement> createWidgetForUserGuide() {
+        return List.of(new WidgetLink("User Guide", "https://rui-han-crh.github.io/ip/"));
+    }
+}
@@ -38,8 +38,7 @@ public class LoadUserCommand extends Command {
             }
         } else {
             // if deserialization is unsuccessful
-            user = new User(System.getProperty("user.name"),
-                    SaveManager.loadProfilePicture(SaveManager.ImageType.UserImage));
+            user = new User(System.getProperty("user.name"));
 
             SaveManager.save("user", user);
             duke.sendMessage(String.format("Nice to meet you %s!", user.getName()));
@@ -0,0 +1,36 @@
+package dukeprogram.command;
+
+import java.util.Iterator;
+
+import dukeprogram.Duke;
+import dukeprogram.facilities.Edit;
+import dukeprogram.storage.SaveManager;
+
+/**
+ * RedoCommand redoes the last change undone by UndoCommand
+ */
+public class RedoCommand extends Command {
+
+    /**
+     * Creates a RedoCommand
+     *
+     * @param duke the instance of duke this is associated to
+     */
+    public RedoCommand(Duke duke) {
+        super(duke);
+    }
+
+    @Override
+    public void parse(Iterator<String> elements) {
+        Edit edit = duke.getUndoHistory().redo();
+        if (edit == null) {
+            duke.sendMessage("There's nothing for me to redo.");
+            return;
+        }
+
+        SaveManager.save("tasklist", duke.getTaskList());
+        SaveManager.save("loanCollection", duke.getLoanCollection());
+        duke.serializeToFile();
+        duke.sendMessage("Okay, I've redone this: " + edit.getDescription());
+    }
+}
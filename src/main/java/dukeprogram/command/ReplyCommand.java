@@ -0,0 +1,29 @@
+package dukeprogram.command;
+
+import java.util.Iterator;
+
+import dukeprogram.Duke;
+
+/**
+ * ReplyCommand responds to small talk with a fixed reply
+ */
+public class ReplyCommand extends Command {
+
+    private final String reply;
+
+    /**
+     * Creates a ReplyCommand
+     *
+     * @param duke the instance of duke this is associated to
+     * @param reply the message to reply with
+     */
+    public ReplyCommand(Duke duke, String reply) {
+        super(duke);
+        this.reply = reply;
+    }
+
+    @Override
+    public void parse(Iterator<String> elements) {
+        duke.sendMessage(reply);
+    }
+}
@@ -3,14 +3,14 @@ package dukeprogram.command;
 import java.util.Iterator;
 
 import dukeprogram.Duke;
-import dukeprogram.command.customisations.ChangeProfilePictureCommand;
-import dukeprogram.command.customisations.RenameUserCommand;
 import exceptions.IncompleteCommandException;
 import exceptions.InvalidCommandException;
 
 /**
  * SetVariableCommand is used to set a variable related to the currently running Duke task.
  * Variables that can be set include things like names, etc.
+ * Each variable is dispatched by the CommandRegistry, so this command only handles
+ * the variables that cannot be set.
  */
 public class SetVariableCommand extends Command {
     /**
@@ -29,20 +29,7 @@ public class SetVariableCommand extends Command {
             throw new IncompleteCommandException("You need to specify what variable you want to set!");
         }
 
-        String element = elements.next();
-
-        switch (element) {
-        case "name":
-            new RenameUserCommand(duke).parse(elements);
-            break;
-
-        case "picture":
-            new ChangeProfilePictureCommand(duke).parse(elements);
-            break;
-
-        default:
-            throw new InvalidCommandException(
-                    String.format("Sorry, I'm unable to set the %s variable", element));
-        }
+        throw new InvalidCommandException(
+                String.format("Sorry, I'm unable to set the %s variable", elements.next()));
     }
 }
@@ -0,0 +1,36 @@
+package dukeprogram.command;
+
+import java.util.Iterator;
+
+import dukeprogram.Duke;
+import dukeprogram.facilities.Edit;
+import dukeprogram.storage.SaveManager;
+
+/**
+ * UndoCommand undoes the last change made to the task list or the loans
+ */
+public class UndoCommand extends Command {
+
+    /**
+     * Creates an UndoCommand
+     *
+     * @param duke the instance of duke this is associated to
+     */
+    public UndoCommand(Duke duke) {
+        super(duke);
+    }
+
+    @Override
+    public void parse(Iterator<String> elements) {
+        Edit edit = duke.getUndoHistory().undo();
+        if (edit == null) {
+            duke.sendMessage("There's nothing for me to undo.");
+            return;
+        }
+
+        SaveManager.save("tasklist", duke.getTaskList());
+        SaveManager.save("loanCollection", duke.getLoanCollection());
+        duke.serializeToFile();
+        duke.sendMessage("Okay, I've undone this: " + edit.getDescription());
+    }
+}
@@ -1,17 +1,18 @@
 package dukeprogram.command.loans;
 
 import java.util.Iterator;
+import java.util.List;
 
 import dukeprogram.Duke;
-import dukeprogram.Main;
 import dukeprogram.command.Command;
-import dukeprogram.userinterface.Widget;
-import dukeprogram.userinterface.WidgetButton;
+import dukeprogram.userinterface.WidgetLink;
 import exceptions.IncompleteCommandException;
 import exceptions.InvalidCommandException;
 
 /**
- * AccessLoansCommand allows management of loans with use of the LoansCollection object
+ * AccessLoansCommand allows management of loans with use of the LoansCollection object.
+ * The loan commands themselves are dispatched by the CommandRegistry, so this command
+ * only handles the inputs that match none of them.
  */
 public class AccessLoansCommand extends Command {
 
@@ -35,36 +36,19 @@ public class AccessLoansCommand extends Command {
 
         String thisElement = elements.next();
 
-        switch (thisElement) {
-        case "list":
-            new ListLoansCommand(duke).printToGui();
-            break;
-
-        case "add":
-            new AddLoanCommand(duke).parse(elements);
-            break;
-
-        case "delete":
-            new DeleteLoanCommand(duke).parse(elements);
-            break;
-
-        case "help":
+        if (thisElement.equals("help")) {
             printHelp();
-            break;
-
-        default:
+        } else {
             throw new InvalidCommandException(String.format("I'm cannot perform %s", thisElement));
         }
     }
 
     private void printHelp() {
         duke.sendMessage("Here are the commands you can specify:\n"
-                + "\nlist | add | delete");
+                + "\n" + String.join(" | ", duke.getCommandRegistry().getSubcommands("loans")));
         duke.sendMessage("For example, you can do \"loans list\" to list all current loans.");
         duke.sendMessage("Don't forget you can also specify the help command after any argument"
                         + "to learn what you can do!",
-                new Widget(new WidgetButton("User Guide [Loans]",
-                        e -> Main.getPrimaryHostService()
-                                .showDocument("https://rui-han-crh.github.io/ip/#loans"))));
+                List.of(new WidgetLink("User Guide [Loans]", "https://rui-han-crh.github.io/ip/#loans")));
     }
 }
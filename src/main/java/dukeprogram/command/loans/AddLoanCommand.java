@@ -5,9 +5,13 @@ import java.util.NoSuchElementException;
 
 import dukeprogram.Duke;
 import dukeprogram.command.Command;
+import dukeprogram.facilities.Edit;
+import dukeprogram.facilities.LoanCollection;
 import dukeprogram.storage.SaveManager;
 import exceptions.IncompleteCommandException;
 import exceptions.InvalidCommandException;
+import utilities.Money;
+import utilities.StringUtilities;
 
 /**
  * AddLoanCommand can add loans to the Loan Collection of the given duke instance
@@ -33,46 +37,37 @@ public class AddLoanCommand extends Command {
             throw new IncompleteCommandException("Usage: add <person_name> -amount <amount_owed>");
         }
 
-        String personName = fetchName(elements);
+        String personName = StringUtilities.copyUntilDelimiter(elements, DELIMITER);
         if (personName.equals("")) {
             throw new InvalidCommandException("You need to specify the name of the creditor");
         }
 
-        double amountOwed;
+        long centsOwed;
         try {
             String element = elements.next();
             element = element.replace("$", "");
 
-            amountOwed = Double.parseDouble(element);
+            centsOwed = Money.parseCents(element);
         } catch (NumberFormatException e) {
-            throw new InvalidCommandException("The amount owed must be specified in numerics only");
+            throw new InvalidCommandException(
+                    "The amount owed must be specified in numerics only, with at most two decimal places");
         } catch (NullPointerException | NoSuchElementException e) {
             throw new InvalidCommandException("You need to specify the amount of money owed");
         }
 
-        duke.getLoanCollection().add(personName, amountOwed);
+        LoanCollection loanCollection = duke.getLoanCollection();
+        boolean isNewCreditor = !loanCollection.containsKey(personName);
+        long timeMillis = System.currentTimeMillis();
+        loanCollection.add(personName, centsOwed, timeMillis);
+        String description = String.format("add $%s to the loan of %s", Money.format(centsOwed), personName);
+        duke.getUndoHistory().record(Edit.of(description,
+                isNewCreditor
+                        ? () -> loanCollection.remove(personName)
+                        : () -> loanCollection.removeTransaction(personName, centsOwed, timeMillis),
+                () -> loanCollection.add(personName, centsOwed, timeMillis)));
 
         SaveManager.save("loanCollection", duke.getLoanCollection());
         duke.serializeToFile();
         duke.sendMessage("Okay, I've updated the loan for " + personName);
     }
-
-    private String fetchName(Iterator<String> elements) {
-        StringBuilder sb = new StringBuilder();
-
-        String next = elements.next();
-
-        while (!next.equals(DELIMITER)) {
-            sb.append(next);
-            if (!elements.hasNext()) {
-                break;
-            }
-            next = elements.next();
-            if (!next.equals(DELIMITER)) {
-                sb.append(" ");
-            }
-        }
-
-        return sb.toString();
-    }
 }
@@ -0,0 +1,63 @@
+package dukeprogram.command.loans;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.List;
+
+import dukeprogram.Duke;
+import dukeprogram.command.Command;
+import dukeprogram.facilities.Loan;
+import dukeprogram.parser.DateTimeParser;
+import dukeprogram.userinterface.WidgetAmount;
+import exceptions.IncompleteCommandException;
+import exceptions.InvalidCommandException;
+import exceptions.KeyNotFoundException;
+import utilities.StringUtilities;
+
+/**
+ * CheckLoanBalanceCommand shows how much was owed to a creditor at a given time,
+ * worked out from the recorded transactions of the loan
+ */
+public class CheckLoanBalanceCommand extends Command {
+
+    private static final String DELIMITER = "/on";
+
+    /**
+     * Creates a command
+     *
+     * @param duke the instance of duke this is associated to
+     */
+    public CheckLoanBalanceCommand(Duke duke) {
+        super(duke);
+    }
+
+    @Override
+    public void parse(Iterator<String> elements) throws IncompleteCommandException, InvalidCommandException {
+        if (!elements.hasNext()) {
+            throw new IncompleteCommandException("Usage: loans owed <person_name> /on <date>");
+        }
+
+        String personName = StringUtilities.copyUntilDelimiter(elements, DELIMITER);
+        String dateAndTime = StringUtilities.concatByDelimiter(elements, " ");
+
+        LocalDateTime time = dateAndTime.equals("") ? LocalDateTime.now() : DateTimeParser.parse(dateAndTime);
+        if (time == null) {
+            throw new InvalidCommandException("I don't understand the date " + dateAndTime);
+        }
+
+        Loan loan;
+        try {
+            loan = duke.getLoanCollection().get(personName);
+        } catch (KeyNotFoundException e) {
+            duke.sendMessage("Sorry, I wasn't able to find a person called "
+                    + personName + " in the loan records!");
+            return;
+        }
+
+        long centsOwed = loan.getCentsAt(time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        duke.sendMessage(String.format("Here is what you owed %s on %s:",
+                        personName, time.format(DateTimeParser.DISPLAYED_FORMAT)),
+                List.of(new WidgetAmount(loan.getCreditorName(), centsOwed)));
+    }
+}
@@ -1,11 +1,15 @@
 package dukeprogram.command.loans;
 
 import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import dukeprogram.Duke;
 import dukeprogram.command.Command;
 import dukeprogram.command.ContinuableCommand;
+import dukeprogram.facilities.Edit;
 import dukeprogram.facilities.Loan;
+import dukeprogram.facilities.LoanCollection;
 import dukeprogram.storage.SaveManager;
 import exceptions.IncompleteCommandException;
 import exceptions.InvalidCommandException;
@@ -35,8 +39,13 @@ public class DeleteLoanCommand extends Command implements ContinuableCommand {
 
         if (thisElement.equals("all")) {
             askToDeleteAllLoans();
+        } else if (thisElement.endsWith("*")) {
+            deleteLoansByPrefix(thisElement.substring(0, thisElement.length() - 1));
         } else if (duke.getLoanCollection().containsKey(thisElement)) {
-            Loan loan = duke.getLoanCollection().remove(thisElement);
+            LoanCollection loanCollection = duke.getLoanCollection();
+            Loan loan = loanCollection.remove(thisElement);
+            duke.getUndoHistory().record(Edit.of("delete the loan of " + loan.getCreditorName(),
+                    () -> loanCollection.put(loan), () -> loanCollection.remove(thisElement)));
             duke.sendMessage("Okay, I've removed the loan records of " + loan.getCreditorName());
 
             SaveManager.save("loanCollection", duke.getLoanCollection());
@@ -58,7 +67,7 @@ public class DeleteLoanCommand extends Command implements ContinuableCommand {
         switch (thisElement.toLowerCase()) {
         case "y":
         case "yes":
-            duke.getLoanCollection().clear();
+            deleteAllLoans();
             duke.sendMessage("Okay, I've cleared the loan records of everyone.");
             break;
 
@@ -75,6 +84,39 @@ public class DeleteLoanCommand extends Command implements ContinuableCommand {
         duke.serializeToFile();
     }
 
+    private void deleteLoansByPrefix(String prefix) {
+        if (prefix.isBlank()) {
+            // a prefix of nothing matches everyone, so it is confirmed just like deleting all the loans
+            askToDeleteAllLoans();
+            return;
+        }
+
+        LoanCollection loanCollection = duke.getLoanCollection();
+        List<Loan> removedLoans = loanCollection.removeByPrefix(prefix);
+        if (removedLoans.isEmpty()) {
+            duke.sendMessage("Sorry, I wasn't able to find anyone whose name starts with "
+                    + prefix + " in the loan records!");
+            return;
+        }
+        duke.getUndoHistory().record(Edit.of("delete the loans of everyone starting with " + prefix,
+                () -> removedLoans.forEach(loanCollection::put), () -> loanCollection.removeByPrefix(prefix)));
+
+        duke.sendMessage("Okay, I've removed the loan records of "
+                + removedLoans.stream().map(Loan::getCreditorName).collect(Collectors.joining(", ")));
+
+        SaveManager.save("loanCollection", duke.getLoanCollection());
+        duke.serializeToFile();
+    }
+
+    private void deleteAllLoans() {
+        // the loans are moved out rather than cleared, so that they can be moved back without copying them
+        LoanCollection loanCollection = duke.getLoanCollection();
+        LoanCollection deletedLoans = new LoanCollection();
+        loanCollection.swapContents(deletedLoans);
+        duke.getUndoHistory().record(Edit.of("delete the loans of everyone",
+                () -> loanCollection.swapContents(deletedLoans), () -> loanCollection.swapContents(deletedLoans)));
+    }
+
     private void askToDeleteAllLoans() {
         duke.attachState(this);
         duke.sendMessage("Are you sure you want to delete loan records for everyone?\n"
@@ -0,0 +1,73 @@
+package dukeprogram.command.loans;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Iterator;
+
+import dukeprogram.Duke;
+import dukeprogram.command.Command;
+import dukeprogram.facilities.Loan;
+import dukeprogram.storage.CsvWriter;
+import exceptions.IncompleteCommandException;
+import utilities.Money;
+import utilities.StringUtilities;
+
+/**
+ * ExportLoansCommand writes every recorded transaction in the Loan Collection of the given duke instance
+ * to a CSV file, one row at a time, with the columns creditor, amount and date.
+ * Dates are written as ISO-8601 instants, so that they are read back to the millisecond in any locale.
+ * A loan made before its transactions were recorded is written as its balance, dated at the epoch
+ * like the opening balance of its history.
+ */
+public class ExportLoansCommand extends Command {
+
+    /**
+     * Creates an ExportLoansCommand
+     *
+     * @param duke the instance of duke this is associated to
+     */
+    public ExportLoansCommand(Duke duke) {
+        super(duke);
+    }
+
+    @Override
+    public void parse(Iterator<String> elements) throws IncompleteCommandException {
+        String fileName = StringUtilities.concatByDelimiter(elements, " ");
+        if (fileName.equals("")) {
+            throw new IncompleteCommandException("Usage: loans export <file>");
+        }
+
+        long startNanos = System.nanoTime();
+        int numberOfRowsExported = 0;
+        try (CsvWriter writer = new CsvWriter(Files.newBufferedWriter(Path.of(fileName)))) {
+            writer.writeRow("creditor", "amount", "date");
+            for (Loan loan : duke.getLoanCollection().getAllLoans()) {
+                if (loan.getNumberOfTransactions() == 0) {
+                    writer.writeRow(loan.getCreditorName(), Money.format(loan.getCents()), formatTime(0));
+                    numberOfRowsExported++;
+                    continue;
+                }
+
+                for (int i = 0; i < loan.getNumberOfTransactions(); i++) {
+                    writer.writeRow(loan.getCreditorName(), Money.format(loan.getTransactionCents(i)),
+                            formatTime(loan.getTransactionTime(i)));
+                }
+                numberOfRowsExported += loan.getNumberOfTransactions();
+            }
+        } catch (IOException | InvalidPathException e) {
+            duke.sendMessage("Sorry, I couldn't write to " + fileName + ": " + e.getMessage());
+            return;
+        }
+
+        duke.sendMessage(String.format("I've exported %d %s to %s (%.0f rows/s).",
+                numberOfRowsExported, numberOfRowsExported == 1 ? "amount" : "amounts", fileName,
+                numberOfRowsExported * 1e9 / Math.max(System.nanoTime() - startNanos, 1)));
+    }
+
+    private static String formatTime(long timeMillis) {
+        return Instant.ofEpochMilli(timeMillis).toString();
+    }
+}
@@ -0,0 +1,44 @@
+package dukeprogram.command.loans;
+
+import java.util.Iterator;
+import java.util.List;
+
+import dukeprogram.Duke;
+import dukeprogram.command.Command;
+import dukeprogram.facilities.Loan;
+import exceptions.IncompleteCommandException;
+import exceptions.InvalidCommandException;
+import utilities.StringUtilities;
+
+/**
+ * FindLoanCommand finds the loans of every creditor whose name starts with the given text,
+ * ignoring case and spacing
+ */
+public class FindLoanCommand extends Command {
+
+    /**
+     * Creates a command
+     *
+     * @param duke the instance of duke this is associated to
+     */
+    public FindLoanCommand(Duke duke) {
+        super(duke);
+    }
+
+    @Override
+    public void parse(Iterator<String> elements) throws IncompleteCommandException, InvalidCommandException {
+        if (!elements.hasNext()) {
+            throw new IncompleteCommandException("Usage: loans find <start_of_name>");
+        }
+
+        String prefix = StringUtilities.concatByDelimiter(elements, " ");
+        List<Loan> foundLoans = duke.getLoanCollection().findByPrefix(prefix);
+
+        if (foundLoans.isEmpty()) {
+            duke.sendMessage("Sorry, I wasn't able to find anyone whose name starts with "
+                    + prefix + " in the loan records!");
+        } else {
+            duke.sendMessage("Here are the loans I found:", foundLoans);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package dukeprogram.command.loans;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.List;
+
+import dukeprogram.Duke;
+import dukeprogram.command.Command;
+import dukeprogram.facilities.LoanCollection;
+import dukeprogram.parser.DateTimeParser;
+import dukeprogram.storage.CsvReader;
+import dukeprogram.storage.SaveManager;
+import exceptions.IncompleteCommandException;
+import utilities.Money;
+import utilities.StringUtilities;
+
+/**
+ * ImportLoansCommand adds every amount owed in a CSV file to the Loan Collection of the given duke instance.
+ * The file is read one row at a time, and the Loan Collection is saved once at the end.
+ * Each row has the columns creditor, amount and an optional date, like those written by ExportLoansCommand.
+ * Dates are read as ISO-8601 instants, as they are exported, or otherwise in any format the user may type.
+ * Amounts without a date are recorded as transactions made now. The rows need not be in time order,
+ * as every amount is merged into the history of its loan at its own time.
+ */
+public class ImportLoansCommand extends Command {
+
+    /**
+     * Creates an ImportLoansCommand
+     *
+     * @param duke the instance of duke this is associated to
+     */
+    public ImportLoansCommand(Duke duke) {
+        super(duke);
+    }
+
+    @Override
+    public void parse(Iterator<String> elements) throws IncompleteCommandException {
+        String fileName = StringUtilities.concatByDelimiter(elements, " ");
+        if (fileName.equals("")) {
+            throw new IncompleteCommandException("Usage: loans import <file>");
+        }
+
+        long startNanos = System.nanoTime();
+        long nowMillis = System.currentTimeMillis();
+        LoanCollection loanCollection = duke.getLoanCollection();
+        int numberOfRowsImported = 0;
+        int numberOfRowsSkipped = 0;
+        String error = null;
+
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(Path.of(fileName)))) {
+            List<String> row;
+            while ((row = reader.readRow()) != null) {
+                if (row.size() == 1 && row.get(0).isBlank()) {
+                    continue;
+                }
+
+                if (importRow(loanCollection, row, nowMillis)) {
+                    numberOfRowsImported++;
+                } else if (reader.getLineNumber() > 1) {
+                    // the header row is not counted as a row that was not understood
+                    numberOfRowsSkipped++;
+                }
+            }
+        } catch (IOException | InvalidPathException e) {
+            error = e.getMessage();
+        }
+
+        if (numberOfRowsImported > 0) {
+            // an import cannot be undone, so the edits before it can no longer be undone in order
+            duke.getUndoHistory().clear();
+            SaveManager.save("loanCollection", loanCollection);
+            duke.serializeToFile();
+        }
+
+        if (error != null) {
+            duke.sendMessage("Sorry, I couldn't finish reading " + fileName + ": " + error);
+        }
+        duke.sendMessage(String.format("I've imported %d %s from %s (%.0f rows/s)%s",
+                numberOfRowsImported, numberOfRowsImported == 1 ? "amount" : "amounts", fileName,
+                numberOfRowsImported * 1e9 / Math.max(System.nanoTime() - startNanos, 1),
+                numberOfRowsSkipped == 0
+                        ? "."
+                        : ", skipping " + numberOfRowsSkipped + " rows I didn't understand."));
+    }
+
+    /**
+     * Adds the amount owed in a row to the Loan Collection
+     * @param loanCollection the Loan Collection to add the amount to
+     * @param row the columns creditor, amount and an optional date
+     * @param nowMillis the time to record an amount without a date at
+     * @return whether the row described an amount owed, which is not so for the header row
+     */
+    private static boolean importRow(LoanCollection loanCollection, List<String> row, long nowMillis) {
+        String creditorName = row.get(0).trim();
+        if (creditorName.equals("") || row.size() < 2) {
+            return false;
+        }
+
+        long cents;
+        try {
+            cents = Money.parseCents(row.get(1).trim().replace("$", ""));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+
+        String date = row.size() > 2 ? row.get(2).trim() : "";
+        Long timeMillis = date.equals("") ? Long.valueOf(nowMillis) : parseTime(date);
+        if (timeMillis == null) {
+            return false;
+        }
+
+        loanCollection.add(creditorName, cents, timeMillis);
+        return true;
+    }
+
+    /**
+     * Parses the date of a row, as an exported instant or as a date typed by the user
+     * @return the time in milliseconds since the epoch, or null if the date was not understood
+     */
+    private static Long parseTime(String date) {
+        try {
+            return Instant.parse(date).toEpochMilli();
+        } catch (DateTimeParseException e) {
+            LocalDateTime time = DateTimeParser.parse(date);
+            return time == null ? null : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
+    }
+}
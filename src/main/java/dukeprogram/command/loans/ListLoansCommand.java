@@ -1,18 +1,18 @@
 package dukeprogram.command.loans;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import dukeprogram.Duke;
 import dukeprogram.command.Command;
 import dukeprogram.facilities.Loan;
-import dukeprogram.userinterface.Widget;
-import dukeprogram.userinterface.WidgetLoanLabel;
+import dukeprogram.userinterface.WidgetAmount;
+import dukeprogram.userinterface.WidgetElement;
+import dukeprogram.userinterface.WidgetSpacer;
 import exceptions.IncompleteCommandException;
 import exceptions.InvalidCommandException;
-import javafx.scene.layout.Region;
 
 /**
  * ListLoansCommand can print the loans collection onto the GUO
@@ -40,22 +40,12 @@ public class ListLoansCommand extends Command {
     public void printToGui() {
         Loan[] loans = duke.getLoanCollection().getAllLoans();
 
-        double poolAmount = Arrays.stream(loans).mapToDouble(Loan::getAmount).sum();
-        List<Region> loansWidgets = Arrays.stream(loans).map(Loan::makeWidget)
-                .collect(Collectors.toList());
-
-        WidgetLoanLabel debt;
-        if (poolAmount >= 0) {
-            debt = new WidgetLoanLabel("TOTAL PAYABLE", poolAmount);
-        } else {
-            debt = new WidgetLoanLabel("TOTAL RECEIVABLE", poolAmount);
-        }
-        Region space = new Region();
-        space.setMinHeight(10);
-        loansWidgets.add(space);
-        loansWidgets.add(debt);
-
-        duke.sendMessage("Here are your loans:\n",
-                new Widget(loansWidgets));
+        long poolAmount = duke.getLoanCollection().getNetCents();
+        List<WidgetElement> loansWidgets = new ArrayList<>(Arrays.asList(loans));
+
+        loansWidgets.add(new WidgetSpacer(10));
+        loansWidgets.add(new WidgetAmount(poolAmount >= 0 ? "TOTAL PAYABLE" : "TOTAL RECEIVABLE", poolAmount));
+
+        duke.sendMessage("Here are your loans:\n", loansWidgets);
     }
 }
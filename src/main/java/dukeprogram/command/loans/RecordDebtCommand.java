@@ -0,0 +1,74 @@
+package dukeprogram.command.loans;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import dukeprogram.Duke;
+import dukeprogram.command.Command;
+import dukeprogram.facilities.Edit;
+import dukeprogram.facilities.LoanCollection;
+import dukeprogram.storage.SaveManager;
+import exceptions.IncompleteCommandException;
+import exceptions.InvalidCommandException;
+import utilities.Money;
+import utilities.StringUtilities;
+
+/**
+ * RecordDebtCommand records a debt between any two parties, such as two members of a team sharing Duke
+ */
+public class RecordDebtCommand extends Command {
+
+    private static final String CREDITOR_DELIMITER = "/owes";
+    private static final String AMOUNT_DELIMITER = "/amount";
+
+    /**
+     * Creates a RecordDebtCommand
+     *
+     * @param duke the instance of duke this is associated to
+     */
+    public RecordDebtCommand(Duke duke) {
+        super(duke);
+    }
+
+    @Override
+    public void parse(Iterator<String> elements)
+            throws IncompleteCommandException, InvalidCommandException {
+        if (!elements.hasNext()) {
+            throw new IncompleteCommandException(
+                    "Usage: loans record <debtor_name> /owes <creditor_name> /amount <amount_owed>");
+        }
+
+        String debtorName = StringUtilities.copyUntilDelimiter(elements, CREDITOR_DELIMITER);
+        String creditorName = StringUtilities.copyUntilDelimiter(elements, AMOUNT_DELIMITER);
+        if (debtorName.equals("") || creditorName.equals("")) {
+            throw new InvalidCommandException("You need to specify who owes whom");
+        }
+        if (StringUtilities.normalizeName(debtorName).equals(StringUtilities.normalizeName(creditorName))) {
+            throw new InvalidCommandException("Nobody can owe themselves money");
+        }
+
+        long centsOwed;
+        try {
+            centsOwed = Money.parseCents(elements.next().replace("$", ""));
+        } catch (NumberFormatException e) {
+            throw new InvalidCommandException(
+                    "The amount owed must be specified in numerics only, with at most two decimal places");
+        } catch (NoSuchElementException e) {
+            throw new InvalidCommandException("You need to specify the amount of money owed");
+        }
+        if (centsOwed <= 0) {
+            throw new InvalidCommandException("The amount owed must be more than $0");
+        }
+
+        LoanCollection loanCollection = duke.getLoanCollection();
+        loanCollection.recordDebt(debtorName, creditorName, centsOwed);
+        duke.getUndoHistory().record(Edit.of(String.format("record that %s owes %s", debtorName, creditorName),
+                () -> loanCollection.getLedger().removeLast(),
+                () -> loanCollection.recordDebt(debtorName, creditorName, centsOwed)));
+
+        SaveManager.save("loanCollection", duke.getLoanCollection());
+        duke.serializeToFile();
+        duke.sendMessage(String.format("Okay, I've recorded that %s owes %s $%s",
+                debtorName, creditorName, Money.format(centsOwed)));
+    }
+}
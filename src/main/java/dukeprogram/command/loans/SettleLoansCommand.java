@@ -0,0 +1,38 @@
+package dukeprogram.command.loans;
+
+import java.util.Iterator;
+import java.util.List;
+
+import dukeprogram.Duke;
+import dukeprogram.command.Command;
+import dukeprogram.facilities.Settlement;
+import exceptions.IncompleteCommandException;
+import exceptions.InvalidCommandException;
+
+/**
+ * SettleLoansCommand works out the fewest transfers it can find that would settle every loan
+ * of the user and every debt between other parties. The transfers are only suggested, not recorded.
+ */
+public class SettleLoansCommand extends Command {
+
+    /**
+     * Creates a command
+     *
+     * @param duke the instance of duke this is associated to
+     */
+    public SettleLoansCommand(Duke duke) {
+        super(duke);
+    }
+
+    @Override
+    public void parse(Iterator<String> elements) throws IncompleteCommandException, InvalidCommandException {
+        List<Settlement> settlements = duke.getLoanCollection().settle(duke.getUser().getName());
+
+        if (settlements.isEmpty()) {
+            duke.sendMessage("Everyone is settled up, nobody owes anybody anything!");
+        } else {
+            duke.sendMessage(String.format("Everyone can be settled up with %d %s:",
+                    settlements.size(), settlements.size() == 1 ? "transfer" : "transfers"), settlements);
+        }
+    }
+}
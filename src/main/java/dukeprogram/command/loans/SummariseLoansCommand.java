@@ -0,0 +1,50 @@
+package dukeprogram.command.loans;
+
+import java.util.Iterator;
+import java.util.List;
+
+import dukeprogram.Duke;
+import dukeprogram.command.Command;
+import dukeprogram.facilities.LoanCollection;
+import dukeprogram.userinterface.WidgetAmount;
+import dukeprogram.userinterface.WidgetSpacer;
+import exceptions.IncompleteCommandException;
+import exceptions.InvalidCommandException;
+import utilities.Money;
+
+/**
+ * SummariseLoansCommand shows the totals owed and lent across the Loan Collection,
+ * which are kept up to date by the collection, so that no loan is looked at
+ */
+public class SummariseLoansCommand extends Command {
+
+    /**
+     * Creates a command
+     *
+     * @param duke the instance of duke this is associated to
+     */
+    public SummariseLoansCommand(Duke duke) {
+        super(duke);
+    }
+
+    @Override
+    public void parse(Iterator<String> elements) throws IncompleteCommandException, InvalidCommandException {
+        LoanCollection loanCollection = duke.getLoanCollection();
+        long netCents = loanCollection.getNetCents();
+
+        String summary = String.format("Here is a summary of your loans:\n"
+                        + "You owe $%s to %d %s, and %d %s you $%s.",
+                Money.format(loanCollection.getPayableCents()),
+                loanCollection.getNumberOfCreditorsOwed(),
+                loanCollection.getNumberOfCreditorsOwed() == 1 ? "person" : "people",
+                loanCollection.getNumberOfCreditorsLent(),
+                loanCollection.getNumberOfCreditorsLent() == 1 ? "person owes" : "people owe",
+                Money.format(loanCollection.getReceivableCents()));
+
+        duke.sendMessage(summary, List.of(
+                new WidgetAmount("OWED", loanCollection.getPayableCents()),
+                new WidgetAmount("LENT", -loanCollection.getReceivableCents()),
+                new WidgetSpacer(10),
+                new WidgetAmount(netCents >= 0 ? "TOTAL PAYABLE" : "TOTAL RECEIVABLE", netCents)));
+    }
+}
@@ -0,0 +1,81 @@
+package dukeprogram.command.loans;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import dukeprogram.Duke;
+import dukeprogram.command.Command;
+import dukeprogram.facilities.Loan;
+import dukeprogram.facilities.LoanCollection;
+import dukeprogram.userinterface.WidgetElement;
+import dukeprogram.userinterface.WidgetSpacer;
+import exceptions.IncompleteCommandException;
+import exceptions.InvalidCommandException;
+
+/**
+ * TopLoansCommand shows the creditors owed the most money, the creditors that owe the most money, or both
+ */
+public class TopLoansCommand extends Command {
+
+    private static final int DEFAULT_NUMBER_OF_LOANS = 10;
+
+    /**
+     * Creates a command
+     *
+     * @param duke the instance of duke this is associated to
+     */
+    public TopLoansCommand(Duke duke) {
+        super(duke);
+    }
+
+    @Override
+    public void parse(Iterator<String> elements) throws IncompleteCommandException, InvalidCommandException {
+        int numberOfLoans = DEFAULT_NUMBER_OF_LOANS;
+        String direction = "";
+
+        if (elements.hasNext()) {
+            String element = elements.next();
+            try {
+                numberOfLoans = Integer.parseInt(element);
+                direction = elements.hasNext() ? elements.next() : "";
+            } catch (NumberFormatException e) {
+                direction = element;
+            }
+        }
+        if (numberOfLoans <= 0) {
+            throw new InvalidCommandException("The number of loans to show must be more than 0");
+        }
+
+        LoanCollection loanCollection = duke.getLoanCollection();
+        List<WidgetElement> loansWidgets = new ArrayList<>();
+        switch (direction.toLowerCase()) {
+        case "owed":
+            loansWidgets.addAll(loanCollection.getMostOwed(numberOfLoans));
+            break;
+
+        case "lent":
+            loansWidgets.addAll(loanCollection.getMostLent(numberOfLoans));
+            break;
+
+        case "":
+            List<Loan> mostOwed = loanCollection.getMostOwed(numberOfLoans);
+            List<Loan> mostLent = loanCollection.getMostLent(numberOfLoans);
+            loansWidgets.addAll(mostOwed);
+            if (!mostOwed.isEmpty() && !mostLent.isEmpty()) {
+                loansWidgets.add(new WidgetSpacer(10));
+            }
+            loansWidgets.addAll(mostLent);
+            break;
+
+        default:
+            throw new InvalidCommandException("Usage: loans top <number> [owed|lent]");
+        }
+
+        if (loansWidgets.isEmpty()) {
+            duke.sendMessage("There are no loans to show!");
+        } else {
+            duke.sendMessage("Here are your largest loans:", loansWidgets);
+        }
+    }
+}
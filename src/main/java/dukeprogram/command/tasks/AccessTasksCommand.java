@@ -1,17 +1,17 @@
 package dukeprogram.command.tasks;
 
 import java.util.Iterator;
+import java.util.List;
 
 import dukeprogram.Duke;
-import dukeprogram.Main;
 import dukeprogram.command.Command;
-import dukeprogram.userinterface.Widget;
-import dukeprogram.userinterface.WidgetButton;
+import dukeprogram.userinterface.WidgetLink;
 import exceptions.IncompleteCommandException;
 import exceptions.InvalidCommandException;
 
 /**
- * Access all the available tasks
+ * Access all the available tasks. The task commands themselves are dispatched by the
+ * CommandRegistry, so this command only handles the inputs that match none of them.
  */
 public class AccessTasksCommand extends Command {
     /**
@@ -32,48 +32,19 @@ public class AccessTasksCommand extends Command {
 
         String thisElement = elements.next();
 
-        switch (thisElement) {
-        case "list":
-            new ListTasksCommand(duke).printToGui();
-            break;
-
-        case "find":
-            new FindTaskCommand(duke).parse(elements);
-            break;
-
-        case "add":
-            new AddTaskCommand(duke).parse(elements);
-            break;
-
-        case "mark":
-            new MarkTaskCommand(duke).parse(elements);
-            break;
-
-        case "unmark":
-            new UnmarkTaskCommand(duke).parse(elements);
-            break;
-
-        case "delete":
-            new DeleteTaskCommand(duke).parse(elements);
-            break;
-
-        case "help":
+        if (thisElement.equals("help")) {
             printHelp();
-            break;
-
-        default:
+        } else {
             throw new InvalidCommandException(String.format("I'm cannot perform %s", thisElement));
         }
     }
 
     private void printHelp() {
         duke.sendMessage("Here are the commands you can specify:\n"
-                + "\nlist | find | add | mark | unmark | delete");
+                + "\n" + String.join(" | ", duke.getCommandRegistry().getSubcommands("tasks")));
         duke.sendMessage("For example, you can do \"tasks list\" to list all current tasks.");
         duke.sendMessage("Don't forget you can also specify the help command after any argument"
                 + "to learn what you can do!",
-                new Widget(new WidgetButton("User Guide [Tasks]",
-                        e -> Main.getPrimaryHostService()
-                                .showDocument("https://rui-han-crh.github.io/ip/#tasks"))));
+                List.of(new WidgetLink("User Guide [Tasks]", "https://rui-han-crh.github.io/ip/#tasks")));
     }
 }
@@ -3,19 +3,15 @@ package dukeprogram.command.tasks;
 import java.util.Iterator;
 
 import dukeprogram.Duke;
-import dukeprogram.command.Command;
 import dukeprogram.tasks.Deadline;
-import dukeprogram.userinterface.Widget;
+import dukeprogram.tasks.Task;
 import exceptions.InvalidCommandException;
 import utilities.StringUtilities;
 
 /**
  * AddDeadlineTaskCommand adds a deadline type task to task list of the instance of Duke given
  */
-public class AddDeadlineTaskCommand extends Command {
-
-    protected String taskName;
-    protected String dateAndTime;
+public class AddDeadlineTaskCommand extends AddTaskCommand {
 
     /**
      * Creates a new AddDeadlineTaskCommand
@@ -27,18 +23,17 @@ public class AddDeadlineTaskCommand extends Command {
     }
 
     @Override
-    public void parse(Iterator<String> elements) throws InvalidCommandException {
-        taskName = StringUtilities.copyUntilDelimiter(elements, "/by");
+    protected Task createTask(Iterator<String> elements) throws InvalidCommandException {
+        String taskName = StringUtilities.copyUntilDelimiter(elements, "/by");
         if (taskName.equals("")) {
             throw new InvalidCommandException("I cannot add an Deadline without a name.");
         }
 
-        dateAndTime = StringUtilities.concatByDelimiter(elements, " ");
+        String dateAndTime = StringUtilities.concatByDelimiter(elements, " ");
         if (dateAndTime.equals("")) {
             throw new InvalidCommandException("Please specify the due date and time of this deadline.");
         }
-        Deadline task = new Deadline(taskName, dateAndTime);
-        duke.getTaskList().add(task);
-        duke.sendMessage("Okay, I've added this task ", new Widget(task.createLabelWidget()));
+
+        return new Deadline(taskName, dateAndTime);
     }
 }
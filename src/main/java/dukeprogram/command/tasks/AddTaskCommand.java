@@ -1,16 +1,21 @@
 package dukeprogram.command.tasks;
 
 import java.util.Iterator;
+import java.util.List;
 
 import dukeprogram.Duke;
 import dukeprogram.command.Command;
+import dukeprogram.facilities.Edit;
+import dukeprogram.facilities.TaskList;
 import dukeprogram.storage.SaveManager;
+import dukeprogram.tasks.Task;
 import exceptions.IncompleteCommandException;
 import exceptions.InvalidCommandException;
 
 
 /**
- * Adds a task to the task list
+ * Adds a task to the task list. Each task type extends this command to create its own task,
+ * while this command by itself handles the inputs that specify no valid task type.
  */
 public class AddTaskCommand extends Command {
 
@@ -24,31 +29,9 @@ public class AddTaskCommand extends Command {
 
     @Override
     public void parse(Iterator<String> elements) throws IncompleteCommandException {
-        if (!elements.hasNext()) {
-            duke.sendMessage("Hmm, you need to tell me what you want to add...");
-            throw new IncompleteCommandException("Usage: add <task_type> <task_name>");
-        }
-
-        String thisElement = elements.next();
-
+        Task task;
         try {
-            switch (thisElement) {
-            case "todo":
-                new AddTodoTaskCommand(duke).parse(elements);
-                break;
-
-            case "event":
-                new AddEventTaskCommand(duke).parse(elements);
-                break;
-
-            case "deadline":
-                new AddDeadlineTaskCommand(duke).parse(elements);
-                break;
-
-            default:
-                throw new InvalidCommandException(
-                        String.format("Sorry, %s is not a valid task type", thisElement));
-            }
+            task = createTask(elements);
         } catch (InvalidCommandException e) {
             duke.sendMessage(e.getMessage());
             duke.sendMessage("The valid task types are \"todo\", \"event\" and \"deadline\".");
@@ -57,7 +40,32 @@ public class AddTaskCommand extends Command {
             return;
         }
 
+        TaskList taskList = duke.getTaskList();
+        if (taskList.add(task)) {
+            duke.getUndoHistory().record(Edit.of("add " + task.getName(),
+                    () -> taskList.remove(taskList.getSize() - 1), () -> taskList.add(task)));
+        }
+        duke.sendMessage("Okay, I've added this task ", List.of(task));
+
         SaveManager.save("tasklist", duke.getTaskList());
         duke.serializeToFile();
     }
+
+    /**
+     * Creates the task described by the elements given
+     * @param elements the continued iterator of elements
+     * @return the task to add
+     * @throws IncompleteCommandException if no task type was given
+     * @throws InvalidCommandException if the task could not be created from the elements
+     */
+    protected Task createTask(Iterator<String> elements)
+            throws IncompleteCommandException, InvalidCommandException {
+        if (!elements.hasNext()) {
+            duke.sendMessage("Hmm, you need to tell me what you want to add...");
+            throw new IncompleteCommandException("Usage: add <task_type> <task_name>");
+        }
+
+        throw new InvalidCommandException(
+                String.format("Sorry, %s is not a valid task type", elements.next()));
+    }
 }
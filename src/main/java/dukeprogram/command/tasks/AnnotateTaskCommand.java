@@ -1,15 +1,18 @@
 package dukeprogram.command.tasks;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Iterator;
-import java.util.stream.Collectors;
+import java.util.List;
 
 import dukeprogram.Duke;
 import dukeprogram.command.Command;
+import dukeprogram.facilities.Edit;
+import dukeprogram.parser.TaskSelectionParser;
 import dukeprogram.storage.SaveManager;
 import dukeprogram.tasks.Task;
-import dukeprogram.userinterface.Widget;
 import exceptions.InvalidCommandException;
+import utilities.StringUtilities;
 
 /**
  * AnnotateTaskCommand can annotate a task of the current task list of the given Duke instance.
@@ -19,28 +22,43 @@ public abstract class AnnotateTaskCommand extends Command {
 
     private final boolean isToMark;
     private final String annotationMessage;
+    private final String bulkAnnotationMessage;
 
     /**
      * Creates a new AnnotateTaskCommand
      * @param duke the instance of duke that spawned this command
      * @param isToMark whether the task is meant to be marked or unmarked
      * @param annotationMessage the message to send to the user after the annotation is successful
+     * @param bulkAnnotationMessage the message to send to the user after many tasks are annotated,
+     *                              formatted with the number of tasks
      */
-    public AnnotateTaskCommand(Duke duke, boolean isToMark, String annotationMessage) {
+    public AnnotateTaskCommand(Duke duke, boolean isToMark, String annotationMessage, String bulkAnnotationMessage) {
         super(duke);
         this.isToMark = isToMark;
         this.annotationMessage = annotationMessage;
+        this.bulkAnnotationMessage = bulkAnnotationMessage;
     }
 
     /**
-     * Annotates the present task indexed by an integer defining its position within the task list
+     * Annotates the present task indexed by an integer defining its position within the task list,
+     * or every task selected by ranges, indices or "find:", such as "1-200", "3,7,9" or "find:report"
      * @param elements the continued iterator of elements
      * @throws InvalidCommandException if the index does not exist
      */
     @Override
     public void parse(Iterator<String> elements) throws InvalidCommandException {
+        String element = StringUtilities.concatByDelimiter(elements, " ");
+        if (element.equals("")) {
+            throw new InvalidCommandException("You have to specify which task to annotate.");
+        }
+
+        int[] indices = TaskSelectionParser.parse(element, duke.getTaskList());
+        if (indices != null) {
+            annotateAll(indices, element);
+            return;
+        }
+
         int index;
-        String element = elements.next();
         try {
             index = Integer.parseInt(element) - 1;
             if (index < 0 || index >= duke.getTaskList().getSize()) {
@@ -54,10 +72,7 @@ public abstract class AnnotateTaskCommand extends Command {
             }
 
             if (tasksFound.length > 1) {
-                duke.sendMessage("I'm not sure which one to annotate",
-                        new Widget(Arrays.stream(tasksFound)
-                                .map(Task::createLabelWidget).collect(Collectors.toList()))
-                );
+                duke.sendMessage("I'm not sure which one to annotate", List.of(tasksFound));
                 throw new InvalidCommandException(
                         String.format("There was an ambiguity with the above %d tasks",
                                 tasksFound.length));
@@ -69,10 +84,44 @@ public abstract class AnnotateTaskCommand extends Command {
         }
 
         Task task = duke.getTaskList().get(index);
+        boolean wasComplete = task.isComplete();
         task.markJobState(isToMark);
-        duke.sendMessage(annotationMessage, new Widget(task.createLabelWidget()));
+        duke.getUndoHistory().record(Edit.of(describe(task.getName()),
+                () -> task.markJobState(wasComplete), () -> task.markJobState(isToMark)));
+        duke.sendMessage(annotationMessage, List.of(task));
 
         SaveManager.save("tasklist", duke.getTaskList());
         duke.serializeToFile();
     }
+
+    /**
+     * Annotates many tasks at once, saving the task list only once
+     */
+    private void annotateAll(int[] indices, String selection) throws InvalidCommandException {
+        if (indices.length == 0) {
+            throw new InvalidCommandException("I couldn't find any tasks with " + selection);
+        }
+
+        List<Task> tasks = new ArrayList<>(indices.length);
+        BitSet wasComplete = new BitSet(indices.length);
+        for (int index : indices) {
+            Task task = duke.getTaskList().get(index);
+            wasComplete.set(tasks.size(), task.isComplete());
+            task.markJobState(isToMark);
+            tasks.add(task);
+        }
+        duke.getUndoHistory().record(Edit.of(describe(tasks.size() + " tasks"), () -> {
+            for (int i = 0; i < tasks.size(); i++) {
+                tasks.get(i).markJobState(wasComplete.get(i));
+            }
+        }, () -> tasks.forEach(task -> task.markJobState(isToMark))));
+        duke.sendMessage(String.format(bulkAnnotationMessage, tasks.size()), tasks);
+
+        SaveManager.save("tasklist", duke.getTaskList());
+        duke.serializeToFile();
+    }
+
+    private String describe(String what) {
+        return (isToMark ? "mark " : "unmark ") + what;
+    }
 }
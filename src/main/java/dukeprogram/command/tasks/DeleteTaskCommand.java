@@ -1,20 +1,21 @@
 package dukeprogram.command.tasks;
 
-import java.util.Arrays;
 import java.util.Iterator;
-import java.util.stream.Collectors;
+import java.util.List;
 
 import dukeprogram.Duke;
 import dukeprogram.command.Command;
 import dukeprogram.command.ContinuableCommand;
+import dukeprogram.facilities.Edit;
+import dukeprogram.facilities.TaskList;
+import dukeprogram.parser.TaskSelectionParser;
 import dukeprogram.storage.SaveManager;
 import dukeprogram.tasks.Task;
-import dukeprogram.userinterface.Widget;
 import exceptions.InvalidCommandException;
 import utilities.StringUtilities;
 
 /**
- * Deletes a task by index
+ * Deletes a task by index or name, or many tasks by ranges, indices or "find:"
  */
 public class DeleteTaskCommand extends Command implements ContinuableCommand {
 
@@ -39,11 +40,19 @@ public class DeleteTaskCommand extends Command implements ContinuableCommand {
             return;
         }
 
+        int[] indices = TaskSelectionParser.parse(thisElement, duke.getTaskList());
+        if (indices != null) {
+            deleteAll(indices, thisElement);
+            return;
+        }
+
         int index = parseTaskIndex(thisElement);
 
         Task task = deleteAt(index);
-        duke.sendMessage("Okay, I've removed this task,",
-                new Widget(task.createLabelWidget()));
+        TaskList taskList = duke.getTaskList();
+        duke.getUndoHistory().record(Edit.of("delete " + task.getName(),
+                () -> taskList.insert(index, task), () -> taskList.remove(index)));
+        duke.sendMessage("Okay, I've removed this task,", List.of(task));
 
         SaveManager.save("tasklist", duke.getTaskList());
 
@@ -68,10 +77,7 @@ public class DeleteTaskCommand extends Command implements ContinuableCommand {
             }
 
             if (tasksFound.length > 1) {
-                duke.sendMessage("I'm not sure which one to delete",
-                        new Widget(Arrays.stream(tasksFound)
-                                .map(Task::createLabelWidget).collect(Collectors.toList()))
-                );
+                duke.sendMessage("I'm not sure which one to delete", List.of(tasksFound));
                 throw new InvalidCommandException(
                         String.format("There was an ambiguity with the above %d tasks",
                                 tasksFound.length));
@@ -114,12 +120,35 @@ public class DeleteTaskCommand extends Command implements ContinuableCommand {
         return duke.getTaskList().remove(index);
     }
 
+    /**
+     * Deletes many tasks at once, saving the task list only once
+     */
+    private void deleteAll(int[] indices, String selection) throws InvalidCommandException {
+        if (indices.length == 0) {
+            throw new InvalidCommandException("I couldn't find any tasks with " + selection);
+        }
+
+        TaskList taskList = duke.getTaskList();
+        List<Task> tasks = taskList.removeAll(indices);
+        duke.getUndoHistory().record(Edit.of(String.format("delete %d tasks", tasks.size()),
+                () -> taskList.insertAll(indices, tasks), () -> taskList.removeAll(indices)));
+        duke.sendMessage(String.format("Okay, I've removed these %d tasks,", tasks.size()), tasks);
+
+        SaveManager.save("tasklist", duke.getTaskList());
+        duke.serializeToFile();
+    }
+
     private void askToDeleteAllTasks() {
         duke.attachState(this);
         duke.sendMessage("Are you sure you want to delete all tasks?");
     }
 
     private void deleteAllTasks() {
-        duke.getTaskList().clear();
+        // the tasks are moved out rather than cleared, so that they can be moved back without copying them
+        TaskList taskList = duke.getTaskList();
+        TaskList deletedTasks = new TaskList();
+        taskList.swapContents(deletedTasks);
+        duke.getUndoHistory().record(Edit.of("delete all tasks",
+                () -> taskList.swapContents(deletedTasks), () -> taskList.swapContents(deletedTasks)));
     }
 }
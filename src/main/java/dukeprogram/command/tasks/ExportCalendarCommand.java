@@ -0,0 +1,68 @@
+package dukeprogram.command.tasks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Iterator;
+
+import dukeprogram.Duke;
+import dukeprogram.command.Command;
+import dukeprogram.facilities.CalendarExport;
+import dukeprogram.storage.IcsWriter;
+import dukeprogram.storage.SaveManager;
+import exceptions.IncompleteCommandException;
+import utilities.StringUtilities;
+
+/**
+ * ExportCalendarCommand streams the deadlines and events in the task list of the instance of Duke given
+ * to an iCalendar file, either all of them or only those changed since the last export
+ */
+public class ExportCalendarCommand extends Command {
+
+    private static final String CHANGED_FLAG = "/changed";
+
+    /**
+     * Creates an ExportCalendarCommand
+     *
+     * @param duke the instance of Duke that spawned this command
+     */
+    public ExportCalendarCommand(Duke duke) {
+        super(duke);
+    }
+
+    @Override
+    public void parse(Iterator<String> elements) throws IncompleteCommandException {
+        String fileName = StringUtilities.concatByDelimiter(elements, " ");
+        int flagStart = fileName.length() - CHANGED_FLAG.length();
+        boolean isOnlyChanged = fileName.endsWith(CHANGED_FLAG)
+                && (flagStart == 0 || Character.isWhitespace(fileName.charAt(flagStart - 1)));
+        if (isOnlyChanged) {
+            fileName = fileName.substring(0, flagStart).trim();
+        }
+
+        if (fileName.equals("")) {
+            throw new IncompleteCommandException("Usage: export ics <file> [/changed]");
+        }
+
+        CalendarExport calendarExport = CalendarExport.loadCalendarExport();
+        int numberOfTasksWritten;
+        try {
+            IcsWriter writer = new IcsWriter(Files.newBufferedWriter(Path.of(fileName)));
+            numberOfTasksWritten = calendarExport.write(duke.getTaskList(), writer, isOnlyChanged, Instant.now());
+        } catch (IOException | InvalidPathException e) {
+            duke.sendMessage("Sorry, I couldn't write to " + fileName + ": " + e.getMessage());
+            return;
+        }
+
+        // the identifiers of tasks exported for the first time are saved with the task list
+        SaveManager.save("tasklist", duke.getTaskList());
+        SaveManager.save("calendarExport", calendarExport);
+        duke.serializeToFile();
+
+        duke.sendMessage(String.format("I've exported %d %s%s to %s.",
+                numberOfTasksWritten, numberOfTasksWritten == 1 ? "deadline or event" : "deadlines and events",
+                isOnlyChanged ? " changed since the last export" : "", fileName));
+    }
+}
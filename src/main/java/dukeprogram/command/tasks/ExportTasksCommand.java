@@ -0,0 +1,81 @@
+package dukeprogram.command.tasks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+
+import dukeprogram.Duke;
+import dukeprogram.command.Command;
+import dukeprogram.storage.CsvWriter;
+import dukeprogram.tasks.Deadline;
+import dukeprogram.tasks.Event;
+import dukeprogram.tasks.Task;
+import exceptions.IncompleteCommandException;
+import utilities.PersistentList;
+import utilities.StringUtilities;
+
+/**
+ * ExportTasksCommand writes every task in the task list of the instance of Duke given to a CSV file,
+ * one row at a time, with the columns type, name, done, start and end.
+ * Dates are written as ISO-8601 local dates and times, or as they were given if they could not be understood.
+ */
+public class ExportTasksCommand extends Command {
+
+    /**
+     * Creates an ExportTasksCommand
+     *
+     * @param duke the instance of Duke that spawned this command
+     */
+    public ExportTasksCommand(Duke duke) {
+        super(duke);
+    }
+
+    @Override
+    public void parse(Iterator<String> elements) throws IncompleteCommandException {
+        String fileName = StringUtilities.concatByDelimiter(elements, " ");
+        if (fileName.equals("")) {
+            throw new IncompleteCommandException("Usage: tasks export <file>");
+        }
+
+        long startNanos = System.nanoTime();
+        PersistentList<Task> tasks = duke.getTaskList().getSnapshot();
+        try (CsvWriter writer = new CsvWriter(Files.newBufferedWriter(Path.of(fileName)))) {
+            writer.writeRow("type", "name", "done", "start", "end");
+            for (Task task : tasks) {
+                writeTask(writer, task);
+            }
+        } catch (IOException | InvalidPathException e) {
+            duke.sendMessage("Sorry, I couldn't write to " + fileName + ": " + e.getMessage());
+            return;
+        }
+
+        duke.sendMessage(String.format("I've exported %d %s to %s (%.0f rows/s).",
+                tasks.size(), tasks.size() == 1 ? "task" : "tasks", fileName,
+                tasks.size() * 1e9 / Math.max(System.nanoTime() - startNanos, 1)));
+    }
+
+    private static void writeTask(CsvWriter writer, Task task) throws IOException {
+        String done = String.valueOf(task.isComplete());
+        if (task instanceof Event) {
+            Event event = (Event) task;
+            writer.writeRow("event", task.getName(), done, formatDate(event.getDateTime(), event.getDateText()),
+                    formatDate(event.getEndDateTime(), event.getEndDateText()));
+        } else if (task instanceof Deadline) {
+            Deadline deadline = (Deadline) task;
+            writer.writeRow("deadline", task.getName(), done,
+                    formatDate(deadline.getDateTime(), deadline.getDateText()), "");
+        } else {
+            writer.writeRow("todo", task.getName(), done, "", "");
+        }
+    }
+
+    /**
+     * Formats a date as an ISO-8601 local date and time, or leaves it as it was given if it could not be parsed
+     */
+    private static String formatDate(LocalDateTime dateTime, String dateText) {
+        return dateTime == null ? dateText : dateTime.toString();
+    }
+}
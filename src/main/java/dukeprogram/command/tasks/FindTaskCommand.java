@@ -1,14 +1,12 @@
 package dukeprogram.command.tasks;
 
-import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 
 import dukeprogram.Duke;
 import dukeprogram.command.Command;
 import dukeprogram.tasks.Task;
-import dukeprogram.userinterface.Widget;
-import javafx.scene.layout.Region;
+import utilities.StringUtilities;
 
 /**
  * Finds a task in the task list
@@ -26,20 +24,8 @@ public class FindTaskCommand extends Command {
 
     @Override
     public void parse(Iterator<String> elements) {
-        StringBuilder sb = new StringBuilder();
+        Task[] tasksFound = duke.getTaskList().findTasks(StringUtilities.concatByDelimiter(elements, " "));
 
-        while (elements.hasNext()) {
-            sb.append(elements.next());
-            if (elements.hasNext()) {
-                sb.append(" ");
-            }
-        }
-
-        Task[] tasksFound = duke.getTaskList().findTasks(sb.toString());
-
-        duke.sendMessage("Here are the matches that I've found:\t\t\t\t\t\n",
-                        new Widget(List.of(Arrays.stream(tasksFound)
-                                .map(Task::createLabelWidget).toArray(Region[]::new)))
-        );
+        duke.sendMessage("Here are the matches that I've found:\t\t\t\t\t\n", List.of(tasksFound));
     }
 }
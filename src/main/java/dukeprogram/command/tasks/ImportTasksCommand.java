@@ -0,0 +1,148 @@
+package dukeprogram.command.tasks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import dukeprogram.Duke;
+import dukeprogram.command.Command;
+import dukeprogram.parser.DateTimeParser;
+import dukeprogram.storage.CsvReader;
+import dukeprogram.storage.SaveManager;
+import dukeprogram.tasks.Deadline;
+import dukeprogram.tasks.Event;
+import dukeprogram.tasks.Task;
+import dukeprogram.tasks.ToDo;
+import exceptions.IncompleteCommandException;
+import utilities.StringUtilities;
+
+/**
+ * ImportTasksCommand adds every task in a CSV file to the task list of the instance of Duke given.
+ * The file is read one row at a time, the tasks are added to the task list in batches,
+ * and the task list is saved once at the end.
+ * Each row has the columns type, name, done, start and end, like those written by ExportTasksCommand.
+ * Dates are read as ISO-8601 local dates and times, as they are exported, or otherwise in any format the user may type.
+ */
+public class ImportTasksCommand extends Command {
+
+    private static final int BATCH_SIZE = 1024;
+
+    /**
+     * Creates an ImportTasksCommand
+     *
+     * @param duke the instance of Duke that spawned this command
+     */
+    public ImportTasksCommand(Duke duke) {
+        super(duke);
+    }
+
+    @Override
+    public void parse(Iterator<String> elements) throws IncompleteCommandException {
+        String fileName = StringUtilities.concatByDelimiter(elements, " ");
+        if (fileName.equals("")) {
+            throw new IncompleteCommandException("Usage: tasks import <file>");
+        }
+
+        long startNanos = System.nanoTime();
+        List<Task> batch = new ArrayList<>(BATCH_SIZE);
+        int numberOfTasksImported = 0;
+        int numberOfRowsSkipped = 0;
+        String error = null;
+
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(Path.of(fileName)))) {
+            List<String> row;
+            while ((row = reader.readRow()) != null) {
+                Task task = createTask(row);
+                if (task == null) {
+                    if (reader.getLineNumber() > 1 && !isBlank(row)) {
+                        numberOfRowsSkipped++;
+                    }
+                    continue;
+                }
+
+                batch.add(task);
+                if (batch.size() == BATCH_SIZE) {
+                    duke.getTaskList().addAll(batch);
+                    numberOfTasksImported += batch.size();
+                    batch.clear();
+                }
+            }
+        } catch (IOException | InvalidPathException e) {
+            error = e.getMessage();
+        }
+        duke.getTaskList().addAll(batch);
+        numberOfTasksImported += batch.size();
+
+        if (numberOfTasksImported > 0) {
+            // an import cannot be undone, so the edits before it can no longer be undone in order
+            duke.getUndoHistory().clear();
+            SaveManager.save("tasklist", duke.getTaskList());
+            duke.serializeToFile();
+        }
+
+        if (error != null) {
+            duke.sendMessage("Sorry, I couldn't finish reading " + fileName + ": " + error);
+        }
+        duke.sendMessage(String.format("I've imported %d %s from %s (%.0f rows/s)%s",
+                numberOfTasksImported, numberOfTasksImported == 1 ? "task" : "tasks", fileName,
+                numberOfTasksImported * 1e9 / Math.max(System.nanoTime() - startNanos, 1),
+                numberOfRowsSkipped == 0
+                        ? "."
+                        : ", skipping " + numberOfRowsSkipped + " rows I didn't understand."));
+    }
+
+    /**
+     * Creates the task described by a row
+     * @param row the columns type, name, done, start and end
+     * @return the task, or null if the row does not describe one, such as the header row
+     */
+    private static Task createTask(List<String> row) {
+        if (row.size() < 2 || row.get(1).isBlank()) {
+            return null;
+        }
+        String name = row.get(1).trim();
+        String start = row.size() > 3 ? parseDate(row.get(3).trim()) : "";
+        String end = row.size() > 4 ? parseDate(row.get(4).trim()) : "";
+
+        Task task;
+        switch (row.get(0).trim().toLowerCase()) {
+        case "todo":
+            task = new ToDo(name);
+            break;
+        case "deadline":
+            task = new Deadline(name, start);
+            break;
+        case "event":
+            task = new Event(name, start, end);
+            break;
+        default:
+            return null;
+        }
+
+        String done = row.size() > 2 ? row.get(2).trim().toLowerCase() : "";
+        task.markJobState(done.equals("true") || done.equals("yes") || done.equals("x"));
+        return task;
+    }
+
+    /**
+     * Converts a date exported as an ISO-8601 local date and time to the format tasks are displayed with
+     * @return the date in the displayed format, or as it was given if it is not an exported date
+     */
+    private static String parseDate(String date) {
+        try {
+            return LocalDateTime.parse(date).format(DateTimeParser.DISPLAYED_FORMAT);
+        } catch (DateTimeParseException e) {
+            return date;
+        }
+    }
+
+    private static boolean isBlank(List<String> row) {
+        return row.size() == 1 && row.get(0).isBlank();
+    }
+}
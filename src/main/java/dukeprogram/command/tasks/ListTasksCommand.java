@@ -1,14 +1,11 @@
 package dukeprogram.command.tasks;
 
 import java.util.Iterator;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
+import java.util.List;
 
 import dukeprogram.Duke;
 import dukeprogram.command.Command;
 import dukeprogram.facilities.TaskList;
-import dukeprogram.userinterface.Widget;
-import javafx.scene.layout.Region;
 
 /**
  * A ListTaskCommand specifies a command that allows the main program
@@ -36,10 +33,6 @@ public class ListTasksCommand extends Command {
     public void printToGui() {
         TaskList currentTaskList = duke.getTaskList();
 
-        Stream<Region> tasksLabelStream = IntStream.range(0, currentTaskList.getSize())
-                .mapToObj(i -> currentTaskList.get(i).createLabelWidget());
-
-        duke.sendMessage("Here is your task list:",
-                new Widget(tasksLabelStream.toArray(Region[]::new)));
+        duke.sendMessage("Here is your task list:", List.of(currentTaskList.getAllTasks()));
     }
 }
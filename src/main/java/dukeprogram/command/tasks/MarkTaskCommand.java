@@ -12,6 +12,7 @@ public class MarkTaskCommand extends AnnotateTaskCommand {
      * @param duke the instance of duke that spawned this command
      */
     public MarkTaskCommand(Duke duke) {
-        super(duke, true, "Alright, I've marked this task as done.");
+        super(duke, true, "Alright, I've marked this task as done.",
+                "Alright, I've marked these %d tasks as done.");
     }
 }
@@ -12,6 +12,7 @@ public class UnmarkTaskCommand extends AnnotateTaskCommand {
      * @param duke the instance of duke that spawned this command
      */
     public UnmarkTaskCommand(Duke duke) {
-        super(duke, false, "Okay, I've unmarked this task.");
+        super(duke, false, "Okay, I've unmarked this task.",
+                "Okay, I've unmarked these %d tasks.");
     }
 }
@@ -0,0 +1,165 @@
+package dukeprogram.facilities;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import dukeprogram.storage.IcsWriter;
+import dukeprogram.storage.SaveManager;
+import dukeprogram.tasks.Deadline;
+import dukeprogram.tasks.Event;
+import dukeprogram.tasks.Task;
+import exceptions.KeyNotFoundException;
+
+/**
+ * CalendarExport writes the deadlines and events of a task list as an iCalendar file,
+ * with deadlines as to-dos and events as events. It remembers the version of every task it exported,
+ * so that a later export can contain only the tasks that changed since, which calendars
+ * apply as updates to the entries they already have. Tasks deleted since are written as cancelled,
+ * so that calendars remove them too, and are then forgotten.
+ */
+public class CalendarExport implements Serializable {
+
+    private static final String PRODUCT_ID = "-//Duke//Tasks//EN";
+    private static final String EVENT_COMPONENT = "VEVENT";
+    private static final String TO_DO_COMPONENT = "VTODO";
+
+    @JsonProperty("exportedVersions")
+    private Map<String, Integer> exportedVersions = new HashMap<>();
+    @JsonProperty("exportedComponents")
+    private Map<String, String> exportedComponents = new HashMap<>();
+
+    /**
+     * Initialises the CalendarExport saved
+     */
+    public static CalendarExport loadCalendarExport() {
+        CalendarExport current;
+
+        try {
+            current = SaveManager.load("calendarExport");
+        } catch (KeyNotFoundException e) {
+            current = new CalendarExport();
+            SaveManager.save("calendarExport", current);
+        }
+
+        return current;
+    }
+
+    /**
+     * Writes the deadlines and events of a task list as a calendar, and closes the writer.
+     * The tasks written are only remembered as exported once the writer is closed without an error.
+     * @param taskList the task list to write
+     * @param writer the writer to stream the calendar to
+     * @param isOnlyChanged whether to write only the tasks that are new, changed or deleted since the last export
+     * @param stamp the time the calendar is written at
+     * @return the number of tasks written
+     * @throws IOException if the calendar could not be written
+     */
+    public int write(TaskList taskList, IcsWriter writer, boolean isOnlyChanged, Instant stamp) throws IOException {
+        Map<String, Integer> newVersions = isOnlyChanged ? new HashMap<>(exportedVersions) : new HashMap<>();
+        Map<String, String> newComponents = isOnlyChanged ? new HashMap<>(exportedComponents) : new HashMap<>();
+        Set<String> deletedUids = new HashSet<>(newVersions.keySet());
+        int numberOfTasksWritten = 0;
+
+        try (writer) {
+            writer.begin("VCALENDAR");
+            writer.writeProperty("VERSION", "2.0");
+            writer.writeProperty("PRODID", PRODUCT_ID);
+
+            for (Task task : taskList.getSnapshot()) {
+                if (!(task instanceof Deadline || task instanceof Event)) {
+                    continue;
+                }
+
+                deletedUids.remove(task.getCalendarUid());
+                Integer exportedVersion = newVersions.get(task.getCalendarUid());
+                if (isOnlyChanged && exportedVersion != null && exportedVersion == task.getVersion()) {
+                    continue;
+                }
+
+                if (writeTask(writer, task, stamp)) {
+                    newVersions.put(task.getCalendarUid(), task.getVersion());
+                    String component = task instanceof Event ? EVENT_COMPONENT : TO_DO_COMPONENT;
+                    newComponents.put(task.getCalendarUid(), component);
+                    numberOfTasksWritten++;
+                }
+            }
+
+            for (String uid : deletedUids) {
+                writeCancellation(writer, uid, newComponents.getOrDefault(uid, EVENT_COMPONENT),
+                        newVersions.get(uid) + 1, stamp);
+                newVersions.remove(uid);
+                newComponents.remove(uid);
+                numberOfTasksWritten++;
+            }
+
+            writer.end("VCALENDAR");
+        }
+
+        exportedVersions = newVersions;
+        exportedComponents = newComponents;
+        return numberOfTasksWritten;
+    }
+
+    /**
+     * Writes a deadline as a to-do, or an event as an event
+     * @return whether the task was written, which is not so for an event whose start could not be parsed
+     */
+    private static boolean writeTask(IcsWriter writer, Task task, Instant stamp) throws IOException {
+        if (task instanceof Event) {
+            Event event = (Event) task;
+            LocalDateTime start = event.getDateTime();
+            if (start == null) {
+                return false;
+            }
+
+            writer.begin(EVENT_COMPONENT);
+            writeCommonProperties(writer, task, stamp);
+            writer.writeDateTimeProperty("DTSTART", start);
+            LocalDateTime end = event.getEndDateTime();
+            if (end != null && end.isAfter(start)) {
+                writer.writeDateTimeProperty("DTEND", end);
+            }
+            writer.end(EVENT_COMPONENT);
+            return true;
+        }
+
+        Deadline deadline = (Deadline) task;
+        writer.begin(TO_DO_COMPONENT);
+        writeCommonProperties(writer, task, stamp);
+        LocalDateTime due = deadline.getDateTime();
+        if (due != null) {
+            writer.writeDateTimeProperty("DUE", due);
+        }
+        writer.writeProperty("STATUS", task.isComplete() ? "COMPLETED" : "NEEDS-ACTION");
+        writer.end(TO_DO_COMPONENT);
+        return true;
+    }
+
+    /**
+     * Writes that a task exported before was deleted, with a later sequence than it was exported with
+     */
+    private static void writeCancellation(IcsWriter writer, String uid, String component, int sequence,
+            Instant stamp) throws IOException {
+        writer.begin(component);
+        writer.writeProperty("UID", uid);
+        writer.writeInstantProperty("DTSTAMP", stamp);
+        writer.writeProperty("SEQUENCE", String.valueOf(sequence));
+        writer.writeProperty("STATUS", "CANCELLED");
+        writer.end(component);
+    }
+
+    private static void writeCommonProperties(IcsWriter writer, Task task, Instant stamp) throws IOException {
+        writer.writeProperty("UID", task.getCalendarUid());
+        writer.writeInstantProperty("DTSTAMP", stamp);
+        writer.writeProperty("SEQUENCE", String.valueOf(task.getVersion()));
+        writer.writeTextProperty("SUMMARY", task.getName());
+    }
+}
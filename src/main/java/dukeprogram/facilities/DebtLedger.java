@@ -0,0 +1,251 @@
+package dukeprogram.facilities;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import utilities.StringUtilities;
+
+/**
+ * DebtLedger records debts between any two named parties, such as the members of a team sharing Duke.
+ * Each party is numbered once, the debts are kept in primitive arrays of party numbers and amounts,
+ * and the net balance of every party is kept up to date, so that settling up does not need to
+ * look at the debts again.
+ * Parties are told apart by their normalized names, and each is shown with the spelling first recorded for it.
+ */
+public class DebtLedger implements Serializable {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    @JsonProperty("parties")
+    private final List<String> parties = new ArrayList<>();
+
+    @JsonIgnore
+    private int[] debtorBuffer = new int[INITIAL_CAPACITY];
+    @JsonIgnore
+    private int[] creditorBuffer = new int[INITIAL_CAPACITY];
+    @JsonIgnore
+    private long[] amountBuffer = new long[INITIAL_CAPACITY];
+    @JsonIgnore
+    private int numberOfDebts = 0;
+
+    // the numbering and balances of the parties are not saved, and are worked out again once loaded
+    @JsonIgnore
+    private Map<String, Integer> partyIds;  // keyed by the normalized names of the parties
+    @JsonIgnore
+    private long[] balances;
+
+    /**
+     * Records that one party owes another an amount of money
+     * @param debtor the party that owes the money
+     * @param creditor the party that is owed the money
+     * @param cents the amount owed, in cents
+     */
+    public void record(String debtor, String creditor, long cents) {
+        assert !StringUtilities.normalizeName(debtor).equals(StringUtilities.normalizeName(creditor))
+                : "A party cannot owe itself";
+
+        int debtorId = getPartyId(debtor);
+        int creditorId = getPartyId(creditor);
+
+        if (numberOfDebts == amountBuffer.length) {
+            int capacity = Math.max(numberOfDebts * 2, INITIAL_CAPACITY);
+            debtorBuffer = Arrays.copyOf(debtorBuffer, capacity);
+            creditorBuffer = Arrays.copyOf(creditorBuffer, capacity);
+            amountBuffer = Arrays.copyOf(amountBuffer, capacity);
+        }
+        debtorBuffer[numberOfDebts] = debtorId;
+        creditorBuffer[numberOfDebts] = creditorId;
+        amountBuffer[numberOfDebts] = cents;
+        numberOfDebts++;
+
+        balances[debtorId] -= cents;
+        balances[creditorId] += cents;
+    }
+
+    /**
+     * Removes the last debt recorded, such as when it is undone. The parties of the debt are kept.
+     */
+    public void removeLast() {
+        assert numberOfDebts > 0 : "There is no debt to remove";
+        ensureIndex();
+        numberOfDebts--;
+        balances[debtorBuffer[numberOfDebts]] += amountBuffer[numberOfDebts];
+        balances[creditorBuffer[numberOfDebts]] -= amountBuffer[numberOfDebts];
+    }
+
+    /**
+     * Retrieves the net amount owed to a party, which is negative if the party owes more than it is owed
+     * @param party the name of the party
+     * @return the net amount owed to the party, in cents
+     */
+    public long getBalance(String party) {
+        ensureIndex();
+        Integer id = partyIds.get(StringUtilities.normalizeName(party));
+        return id == null ? 0 : balances[id];
+    }
+
+    @JsonIgnore
+    public int getNumberOfParties() {
+        return parties.size();
+    }
+
+    @JsonIgnore
+    public int getNumberOfDebts() {
+        return numberOfDebts;
+    }
+
+    /**
+     * Forgets every party and debt recorded
+     */
+    public void clear() {
+        parties.clear();
+        numberOfDebts = 0;
+        partyIds = null;
+        balances = null;
+    }
+
+    /**
+     * Works out the transfers that settle every debt recorded, together with some other balances
+     * @param otherBalances the net amounts owed to other parties, or more owed to recorded parties, in cents
+     * @return the transfers that settle every debt
+     */
+    public List<Settlement> settle(Map<String, Long> otherBalances) {
+        ensureIndex();
+        List<String> names = new ArrayList<>(parties);
+        long[] netBalances = Arrays.copyOf(balances, parties.size() + otherBalances.size());
+        Map<String, Integer> otherIds = new HashMap<>();
+
+        for (Map.Entry<String, Long> otherBalance : otherBalances.entrySet()) {
+            String normalizedName = StringUtilities.normalizeName(otherBalance.getKey());
+            Integer id = partyIds.get(normalizedName);
+            if (id == null) {
+                id = otherIds.computeIfAbsent(normalizedName, name -> {
+                    names.add(otherBalance.getKey());
+                    return names.size() - 1;
+                });
+            }
+            netBalances[id] += otherBalance.getValue();
+        }
+
+        return settle(names, netBalances);
+    }
+
+    /**
+     * Greedily settles the net balances, by always having the party that owes the most pay
+     * the party that is owed the most, until every balance is cleared. This takes at most
+     * one transfer fewer than the number of parties.
+     * @param names the names of the parties
+     * @param netBalances the net amount owed to each party, which must add up to zero.
+     *                    It is cleared as the transfers are worked out.
+     * @return the transfers that settle every balance
+     */
+    public static List<Settlement> settle(List<String> names, long[] netBalances) {
+        PriorityQueue<Integer> creditors = new PriorityQueue<>(
+                (first, second) -> Long.compare(netBalances[second], netBalances[first]));
+        PriorityQueue<Integer> debtors = new PriorityQueue<>(
+                (first, second) -> Long.compare(netBalances[first], netBalances[second]));
+        for (int i = 0; i < netBalances.length; i++) {
+            if (netBalances[i] > 0) {
+                creditors.add(i);
+            } else if (netBalances[i] < 0) {
+                debtors.add(i);
+            }
+        }
+
+        List<Settlement> settlements = new ArrayList<>();
+        while (!creditors.isEmpty() && !debtors.isEmpty()) {
+            int creditor = creditors.poll();
+            int debtor = debtors.poll();
+            long cents = Math.min(netBalances[creditor], -netBalances[debtor]);
+            settlements.add(new Settlement(names.get(debtor), names.get(creditor), cents));
+
+            netBalances[creditor] -= cents;
+            netBalances[debtor] += cents;
+            if (netBalances[creditor] > 0) {
+                creditors.add(creditor);
+            }
+            if (netBalances[debtor] < 0) {
+                debtors.add(debtor);
+            }
+        }
+        return settlements;
+    }
+
+    private int getPartyId(String party) {
+        ensureIndex();
+        String normalizedParty = StringUtilities.normalizeName(party);
+        Integer id = partyIds.get(normalizedParty);
+        if (id != null) {
+            return id;
+        }
+
+        id = parties.size();
+        parties.add(party);
+        partyIds.put(normalizedParty, id);
+        if (id == balances.length) {
+            balances = Arrays.copyOf(balances, Math.max(id * 2, INITIAL_CAPACITY));
+        }
+        return id;
+    }
+
+    /**
+     * Numbers the parties and works out their balances, if the ledger was loaded without them
+     */
+    private void ensureIndex() {
+        if (partyIds != null) {
+            return;
+        }
+
+        partyIds = new HashMap<>();
+        for (int i = 0; i < parties.size(); i++) {
+            partyIds.putIfAbsent(StringUtilities.normalizeName(parties.get(i)), i);
+        }
+        balances = new long[Math.max(parties.size(), INITIAL_CAPACITY)];
+        for (int i = 0; i < numberOfDebts; i++) {
+            balances[debtorBuffer[i]] -= amountBuffer[i];
+            balances[creditorBuffer[i]] += amountBuffer[i];
+        }
+    }
+
+    @JsonProperty("debtors")
+    private int[] getSavedDebtors() {
+        return Arrays.copyOf(debtorBuffer, numberOfDebts);
+    }
+
+    @JsonProperty("debtors")
+    private void setSavedDebtors(int[] debtors) {
+        debtorBuffer = debtors;
+        numberOfDebts = debtors.length;
+        partyIds = null;
+    }
+
+    @JsonProperty("creditors")
+    private int[] getSavedCreditors() {
+        return Arrays.copyOf(creditorBuffer, numberOfDebts);
+    }
+
+    @JsonProperty("creditors")
+    private void setSavedCreditors(int[] creditors) {
+        creditorBuffer = creditors;
+        partyIds = null;
+    }
+
+    @JsonProperty("amounts")
+    private long[] getSavedAmounts() {
+        return Arrays.copyOf(amountBuffer, numberOfDebts);
+    }
+
+    @JsonProperty("amounts")
+    private void setSavedAmounts(long[] amounts) {
+        amountBuffer = amounts;
+        partyIds = null;
+    }
+}
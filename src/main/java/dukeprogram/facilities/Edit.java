@@ -0,0 +1,51 @@
+package dukeprogram.facilities;
+
+/**
+ * An Edit is a change made to the task list or the loan collection that can be undone and redone.
+ * It holds only what the change touched, such as the index and task removed,
+ * rather than a copy of what was changed.
+ */
+public interface Edit {
+
+    /**
+     * Reverses this edit, which must be the last edit applied
+     */
+    void undo();
+
+    /**
+     * Applies this edit again, which must be the last edit undone
+     */
+    void redo();
+
+    /**
+     * Describes this edit to the user
+     * @return a description such as "delete all tasks"
+     */
+    String getDescription();
+
+    /**
+     * Creates an edit from the actions that undo and redo it
+     * @param description the description of the edit
+     * @param undo the action that reverses the edit
+     * @param redo the action that applies the edit again
+     * @return the edit
+     */
+    static Edit of(String description, Runnable undo, Runnable redo) {
+        return new Edit() {
+            @Override
+            public void undo() {
+                undo.run();
+            }
+
+            @Override
+            public void redo() {
+                redo.run();
+            }
+
+            @Override
+            public String getDescription() {
+                return description;
+            }
+        };
+    }
+}
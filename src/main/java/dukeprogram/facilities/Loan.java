@@ -5,26 +5,32 @@ import java.io.Serializable;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import dukeprogram.userinterface.WidgetElement;
 import dukeprogram.userinterface.WidgetLoanLabel;
+import utilities.Money;
 
 /**
- * A loan object stores the current loans to a person in the real world
+ * A loan object stores the current loans to a person in the real world.
+ * The amount owed is kept as a whole number of cents, so that it stays exact however often it changes.
+ * Loans are only changed through their LoanCollection, which keeps them ordered and totalled.
  */
-public class Loan implements Serializable {
+public class Loan implements Serializable, WidgetElement {
 
     @JsonProperty("creditor")
     private String creditor;
-    @JsonProperty("moneyOwed")
-    private double moneyOwed;
+    @JsonProperty("centsOwed")
+    private long centsOwed;
+    @JsonProperty("history")
+    private LoanHistory history;
 
     /**
      * Creates a new Loan object
      * @param creditor the person whom the money is owed to
-     * @param moneyOwed the amount of money owed
+     * @param centsOwed the amount of money owed, in cents
      */
-    public Loan(String creditor, double moneyOwed) {
+    public Loan(String creditor, long centsOwed) {
         this.creditor = creditor;
-        this.moneyOwed = moneyOwed;
+        this.centsOwed = centsOwed;
     }
 
     private Loan() {
@@ -32,20 +38,40 @@ public class Loan implements Serializable {
     }
 
     /**
-     * Adds money to amount owed to the creditor
-     * @param amount the amount of money to add
+     * Reads the amount owed from save files written before it was kept in cents
+     * @param moneyOwed the amount of money owed, in dollars
      */
-    public void addAmountOwed(double amount) {
-        moneyOwed += amount;
+    @JsonProperty("moneyOwed")
+    private void setMoneyOwed(double moneyOwed) {
+        centsOwed = Money.fromDollars(moneyOwed);
+    }
+
+    /**
+     * Adds money to amount owed to the creditor, recording it as a transaction made at the given time.
+     * A loan created before its transactions were recorded starts its history with its balance at that time.
+     * @param cents the amount of money to add, in cents
+     * @param timeMillis the time of the transaction, in milliseconds since the epoch
+     */
+    void addAmountOwed(long cents, long timeMillis) {
+        if (history == null) {
+            history = new LoanHistory();
+            if (centsOwed != 0) {
+                history.append(0, centsOwed);
+            }
+        }
+        history.append(timeMillis, cents);
+        centsOwed += cents;
     }
 
     /**
-     * Decreases money to amount owed to the creditor
-     * @param amount the amount of money to decrease.
-     *               If the value is negative, it is equivalent to calling addAmountOwed
+     * Removes an amount added to the amount owed, such as when it is undone
+     * @param cents the amount of money added, in cents
+     * @param timeMillis the time of the transaction, in milliseconds since the epoch
      */
-    public void decreaseAmountOwed(double amount) {
-        addAmountOwed(-amount);
+    void removeAmountOwed(long cents, long timeMillis) {
+        assert history != null : "There is no amount recorded to remove";
+        history.remove(timeMillis, cents);
+        centsOwed -= cents;
     }
 
     @JsonIgnore
@@ -54,18 +80,56 @@ public class Loan implements Serializable {
     }
 
     @JsonIgnore
-    public double getAmount() {
-        return moneyOwed;
+    public long getCents() {
+        return centsOwed;
+    }
+
+    /**
+     * Retrieves the amount owed to the creditor just after the given time
+     * @param timeMillis the time to retrieve the amount owed at, in milliseconds since the epoch
+     * @return the amount owed at that time, in cents
+     */
+    @JsonIgnore
+    public long getCentsAt(long timeMillis) {
+        // without recorded transactions, the amount owed has always been what it is now
+        return history == null ? centsOwed : history.getBalanceAt(timeMillis);
+    }
+
+    /**
+     * Retrieves the number of transactions recorded for this loan
+     * @return the number of transactions
+     */
+    @JsonIgnore
+    public int getNumberOfTransactions() {
+        return history == null ? 0 : history.getSize();
+    }
+
+    /**
+     * Retrieves when a recorded transaction of this loan was made
+     * @param index the index of the transaction, from the earliest
+     * @return the time of the transaction, in milliseconds since the epoch
+     */
+    public long getTransactionTime(int index) {
+        return history.getTime(index);
+    }
+
+    /**
+     * Retrieves the amount added to this loan by a recorded transaction
+     * @param index the index of the transaction, from the earliest
+     * @return the amount added, in cents
+     */
+    public long getTransactionCents(int index) {
+        return history.getAmount(index);
     }
 
     @Override
     public String toString() {
         String representation = "> " + creditor + "\n\t\t| ";
 
-        if (moneyOwed > 0) {
-            representation += "\tOwed $" + moneyOwed;
+        if (centsOwed > 0) {
+            representation += "\tOwed $" + Money.format(centsOwed);
         } else {
-            representation += "\tLent $" + -moneyOwed;
+            representation += "\tLent $" + Money.format(-centsOwed);
         }
 
         return representation;
@@ -75,7 +139,8 @@ public class Loan implements Serializable {
      * Creates a WidgetLoanLabel for use in the dialog bubbles
      * @return a widget loan label
      */
-    public WidgetLoanLabel makeWidget() {
-        return new WidgetLoanLabel(creditor, moneyOwed);
+    @Override
+    public WidgetLoanLabel createNode() {
+        return new WidgetLoanLabel(creditor, centsOwed);
     }
 }
@@ -1,19 +1,51 @@
 package dukeprogram.facilities;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import dukeprogram.storage.SaveManager;
 import exceptions.KeyNotFoundException;
+import utilities.StringUtilities;
 
 /**
- * A LoanCollection represents a collection of loans associated with creditors
+ * A LoanCollection represents a collection of loans associated with creditors.
+ * It keeps running totals of the money owed and lent, updated as loans are added and removed,
+ * so that they never need to be added up again. The loans it holds must only be changed through it.
+ * Creditors are looked up by their normalized names, kept sorted so that they can be found by prefix.
+ * The loans are also kept sorted by the amounts owed, so that the largest can be found without sorting.
  */
 public class LoanCollection implements Serializable {
-    private final Map<String, Loan> loans = new HashMap<>();
+    @JsonIgnore
+    private NavigableMap<String, Loan> loansByName = new TreeMap<>();
+    @JsonProperty("ledger")
+    private DebtLedger ledger = new DebtLedger();
+
+    // the totals and the loans sorted by amount are not saved, and are worked out once after the loans are loaded
+    @JsonIgnore
+    private boolean hasTotals = false;
+    @JsonIgnore
+    private NavigableSet<Loan> loansByAmount = new TreeSet<>(
+            Comparator.comparingLong(Loan::getCents).thenComparing(Loan::getCreditorName));
+    @JsonIgnore
+    private long payableCents;
+    @JsonIgnore
+    private long receivableCents;
+    @JsonIgnore
+    private int numberOfCreditorsOwed;
+    @JsonIgnore
+    private int numberOfCreditorsLent;
 
     /**
      * Initialises the LoanCollection saved
@@ -38,7 +70,7 @@ public class LoanCollection implements Serializable {
      */
     @JsonIgnore
     public Loan[] getAllLoans() {
-        return loans.values().toArray(new Loan[0]);
+        return loansByName.values().toArray(new Loan[0]);
     }
 
 
@@ -48,37 +80,303 @@ public class LoanCollection implements Serializable {
      */
     @JsonIgnore
     public int getSize() {
-        return loans.size();
+        return loansByName.size();
     }
 
     /**
      * Adds an amount of owed money to a creditor
      * @param creditorName the name of the person the money is owed to
-     * @param amountOwedToAdd the amount of owed money to be added
-     * @return
+     * @param centsOwedToAdd the amount of owed money to be added, in cents
      */
-    public void add(String creditorName, double amountOwedToAdd) {
-        if (!loans.containsKey(creditorName)) {
-            loans.put(creditorName, new Loan(creditorName, amountOwedToAdd));
-        } else {
-            Loan existingLoan = loans.get(creditorName);
-            existingLoan.addAmountOwed(amountOwedToAdd);
-        }
+    public void add(String creditorName, long centsOwedToAdd) {
+        add(creditorName, centsOwedToAdd, System.currentTimeMillis());
+    }
+
+    /**
+     * Adds an amount of owed money to a creditor, recorded as a transaction made at the given time
+     * @param creditorName the name of the person the money is owed to
+     * @param centsOwedToAdd the amount of owed money to be added, in cents
+     * @param timeMillis the time of the transaction, in milliseconds since the epoch
+     */
+    public void add(String creditorName, long centsOwedToAdd, long timeMillis) {
+        ensureTotals();
+        Loan loan = loansByName.computeIfAbsent(StringUtilities.normalizeName(creditorName),
+                key -> new Loan(creditorName.trim(), 0));
+        count(loan, -1);
+        loan.addAmountOwed(centsOwedToAdd, timeMillis);
+        count(loan, 1);
     }
 
     /**
      * Clears the entire loan collection completely
      */
     public void clear() {
-        loans.clear();
+        loansByName.clear();
+        ledger.clear();
+        loansByAmount.clear();
+        hasTotals = true;
+        payableCents = 0;
+        receivableCents = 0;
+        numberOfCreditorsOwed = 0;
+        numberOfCreditorsLent = 0;
+    }
+
+    /**
+     * Exchanges every loan, debt and total with those of another collection without copying them,
+     * so that clearing the collection can be undone by exchanging them back
+     * @param other the collection to exchange loans with
+     */
+    public void swapContents(LoanCollection other) {
+        NavigableMap<String, Loan> loans = loansByName;
+        loansByName = other.loansByName;
+        other.loansByName = loans;
+
+        DebtLedger debts = ledger;
+        ledger = other.ledger;
+        other.ledger = debts;
+
+        NavigableSet<Loan> sortedLoans = loansByAmount;
+        loansByAmount = other.loansByAmount;
+        other.loansByAmount = sortedLoans;
+
+        boolean hadTotals = hasTotals;
+        hasTotals = other.hasTotals;
+        other.hasTotals = hadTotals;
+
+        long payable = payableCents;
+        payableCents = other.payableCents;
+        other.payableCents = payable;
+
+        long receivable = receivableCents;
+        receivableCents = other.receivableCents;
+        other.receivableCents = receivable;
+
+        int creditorsOwed = numberOfCreditorsOwed;
+        numberOfCreditorsOwed = other.numberOfCreditorsOwed;
+        other.numberOfCreditorsOwed = creditorsOwed;
+
+        int creditorsLent = numberOfCreditorsLent;
+        numberOfCreditorsLent = other.numberOfCreditorsLent;
+        other.numberOfCreditorsLent = creditorsLent;
+    }
+
+    /**
+     * Removes an amount added to the loan of a creditor, such as when it is undone
+     * @param creditorName the name of the creditor
+     * @param centsOwedAdded the amount of owed money that was added, in cents
+     * @param timeMillis the time of the transaction, in milliseconds since the epoch
+     */
+    public void removeTransaction(String creditorName, long centsOwedAdded, long timeMillis) {
+        ensureTotals();
+        Loan loan = loansByName.get(StringUtilities.normalizeName(creditorName));
+        count(loan, -1);
+        loan.removeAmountOwed(centsOwedAdded, timeMillis);
+        count(loan, 1);
+    }
+
+    /**
+     * Puts a loan back into the collection, such as when its removal is undone
+     * @param loan the loan to put back
+     */
+    public void put(Loan loan) {
+        ensureTotals();
+        Loan replacedLoan = loansByName.put(StringUtilities.normalizeName(loan.getCreditorName()), loan);
+        if (replacedLoan != null) {
+            count(replacedLoan, -1);
+        }
+        count(loan, 1);
+    }
+
+    /**
+     * Records that one party owes another an amount of money, where neither party needs to be the user
+     * @param debtor the party that owes the money
+     * @param creditor the party that is owed the money
+     * @param cents the amount owed, in cents
+     */
+    public void recordDebt(String debtor, String creditor, long cents) {
+        ledger.record(debtor, creditor, cents);
+    }
+
+    @JsonIgnore
+    public DebtLedger getLedger() {
+        return ledger;
+    }
+
+    /**
+     * Works out the transfers that settle both the loans of the user and the debts between other parties
+     * @param userName the name the user goes by in the debts between parties
+     * @return the transfers that settle every loan and debt
+     */
+    public List<Settlement> settle(String userName) {
+        Map<String, Long> loanBalances = new HashMap<>();
+        for (Loan loan : loansByName.values()) {
+            loanBalances.merge(loan.getCreditorName(), loan.getCents(), Long::sum);
+            loanBalances.merge(userName, -loan.getCents(), Long::sum);
+        }
+        return ledger.settle(loanBalances);
+    }
+
+    /**
+     * Retrieves the net amount of money owed to all creditors, which is negative if more is lent than owed
+     * @return the net amount owed, in cents
+     */
+    @JsonIgnore
+    public long getNetCents() {
+        ensureTotals();
+        return payableCents - receivableCents;
+    }
+
+    /**
+     * Retrieves the total amount of money owed to the creditors that are owed money
+     * @return the total amount payable, in cents
+     */
+    @JsonIgnore
+    public long getPayableCents() {
+        ensureTotals();
+        return payableCents;
+    }
+
+    /**
+     * Retrieves the total amount of money lent to the creditors that owe money
+     * @return the total amount receivable, in cents
+     */
+    @JsonIgnore
+    public long getReceivableCents() {
+        ensureTotals();
+        return receivableCents;
+    }
+
+    /**
+     * Retrieves the number of creditors that are owed money
+     * @return the number of creditors owed money
+     */
+    @JsonIgnore
+    public int getNumberOfCreditorsOwed() {
+        ensureTotals();
+        return numberOfCreditorsOwed;
+    }
+
+    /**
+     * Retrieves the number of creditors that owe money
+     * @return the number of creditors lent money
+     */
+    @JsonIgnore
+    public int getNumberOfCreditorsLent() {
+        ensureTotals();
+        return numberOfCreditorsLent;
+    }
+
+    /**
+     * Finds the creditors owed the most money, from the largest amount owed
+     * @param k the number of creditors to find
+     * @return the loans of at most k creditors that are owed money
+     */
+    public List<Loan> getMostOwed(int k) {
+        ensureTotals();
+        return takeWhileSameSign(loansByAmount.descendingIterator(), k, 1);
+    }
+
+    /**
+     * Finds the creditors that owe the most money, from the largest amount lent
+     * @param k the number of creditors to find
+     * @return the loans of at most k creditors that owe money
+     */
+    public List<Loan> getMostLent(int k) {
+        ensureTotals();
+        return takeWhileSameSign(loansByAmount.iterator(), k, -1);
+    }
+
+    private static List<Loan> takeWhileSameSign(Iterator<Loan> loans, int k, int sign) {
+        List<Loan> taken = new ArrayList<>();
+        while (taken.size() < k && loans.hasNext()) {
+            Loan loan = loans.next();
+            if (Long.signum(loan.getCents()) != sign) {
+                break;
+            }
+            taken.add(loan);
+        }
+        return taken;
+    }
+
+    /**
+     * Adds up the totals and sorts the loans by amount once, if the loans were loaded without them
+     */
+    private void ensureTotals() {
+        if (hasTotals) {
+            return;
+        }
+        hasTotals = true;
+        for (Loan loan : loansByName.values()) {
+            count(loan, 1);
+        }
     }
 
+    /**
+     * Counts the amount owed to a creditor into the totals and the loans sorted by amount, or out of them.
+     * A loan must be counted out before its amount changes, and counted in again afterwards.
+     * @param loan the loan of the creditor
+     * @param sign 1 to count the loan in, or -1 to count it out
+     */
+    private void count(Loan loan, int sign) {
+        if (sign > 0) {
+            loansByAmount.add(loan);
+        } else {
+            loansByAmount.remove(loan);
+        }
+
+        long cents = loan.getCents();
+        if (cents > 0) {
+            payableCents += sign * cents;
+            numberOfCreditorsOwed += sign;
+        } else if (cents < 0) {
+            receivableCents -= sign * cents;
+            numberOfCreditorsLent += sign;
+        }
+    }
+
+    /**
+     * Retrieves the loan of a creditor, whose name may differ in case or spacing
+     * @param creditorName the name of the creditor
+     * @return the loan of the creditor
+     * @throws KeyNotFoundException if no creditor goes by the name
+     */
     public Loan get(String creditorName) throws KeyNotFoundException {
-        if (!loans.containsKey(creditorName)) {
+        Loan loan = loansByName.get(StringUtilities.normalizeName(creditorName));
+        if (loan == null) {
             throw new KeyNotFoundException(creditorName, "loans");
         }
 
-        return loans.get(creditorName);
+        return loan;
+    }
+
+    /**
+     * Finds the loans of every creditor whose name starts with the given prefix, ignoring case and spacing
+     * @param prefix the start of the names of the creditors
+     * @return the loans found, sorted by the names of their creditors
+     */
+    public List<Loan> findByPrefix(String prefix) {
+        return new ArrayList<>(getPrefixRange(prefix).values());
+    }
+
+    /**
+     * Removes the loans of every creditor whose name starts with the given prefix, ignoring case and spacing
+     * @param prefix the start of the names of the creditors
+     * @return the loans removed, sorted by the names of their creditors
+     */
+    public List<Loan> removeByPrefix(String prefix) {
+        ensureTotals();
+        NavigableMap<String, Loan> range = getPrefixRange(prefix);
+        List<Loan> removedLoans = new ArrayList<>(range.values());
+        range.clear();
+        for (Loan removedLoan : removedLoans) {
+            count(removedLoan, -1);
+        }
+        return removedLoans;
+    }
+
+    private NavigableMap<String, Loan> getPrefixRange(String prefix) {
+        String normalizedPrefix = StringUtilities.normalizeName(prefix);
+        return loansByName.subMap(normalizedPrefix, true, normalizedPrefix + Character.MAX_VALUE, false);
     }
 
     /**
@@ -87,7 +385,12 @@ public class LoanCollection implements Serializable {
      * @return the task that was removed if the index was valid, otherwise null
      */
     public Loan remove(String creditorName) {
-        return loans.remove(creditorName);
+        ensureTotals();
+        Loan removedLoan = loansByName.remove(StringUtilities.normalizeName(creditorName));
+        if (removedLoan != null) {
+            count(removedLoan, -1);
+        }
+        return removedLoan;
     }
 
     /**
@@ -96,6 +399,34 @@ public class LoanCollection implements Serializable {
      * @return whether the name exists as a creditor's name
      */
     public boolean containsKey(String name) {
-        return loans.containsKey(name);
+        return loansByName.containsKey(StringUtilities.normalizeName(name));
+    }
+
+    @JsonProperty("loans")
+    private Map<String, Loan> getSavedLoans() {
+        return loansByName;
+    }
+
+    /**
+     * Restores the loans saved, keyed by the normalized names of their creditors.
+     * Loans saved before names were normalized, whose names differ only in case or spacing, are merged.
+     * @param savedLoans the loans saved
+     */
+    @JsonProperty("loans")
+    private void setSavedLoans(Map<String, Loan> savedLoans) {
+        loansByName.clear();
+        loansByAmount.clear();
+        hasTotals = false;
+        payableCents = 0;
+        receivableCents = 0;
+        numberOfCreditorsOwed = 0;
+        numberOfCreditorsLent = 0;
+        for (Loan savedLoan : savedLoans.values()) {
+            String key = StringUtilities.normalizeName(savedLoan.getCreditorName());
+            Loan existingLoan = loansByName.putIfAbsent(key, savedLoan);
+            if (existingLoan != null) {
+                existingLoan.addAmountOwed(savedLoan.getCents(), 0);
+            }
+        }
     }
 }
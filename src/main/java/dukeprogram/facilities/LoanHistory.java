@@ -0,0 +1,196 @@
+package dukeprogram.facilities;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * LoanHistory is the record of every amount added to a loan, and when it was added, in time order.
+ * The times and amounts are kept in primitive arrays, and the balance is checkpointed every few
+ * transactions, so that the balance at any time is found by a binary search followed by adding up
+ * no more than a checkpoint's worth of amounts.
+ */
+public class LoanHistory implements Serializable {
+
+    private static final int CHECKPOINT_INTERVAL = 16;
+    private static final int INITIAL_CAPACITY = 4;
+
+    @JsonIgnore
+    private long[] timeBuffer = new long[INITIAL_CAPACITY];
+    @JsonIgnore
+    private long[] amountBuffer = new long[INITIAL_CAPACITY];
+    @JsonIgnore
+    private long[] checkpointBuffer = new long[1];
+    @JsonIgnore
+    private int size = 0;
+    @JsonIgnore
+    private long balance = 0;
+
+    /**
+     * Records an amount added to the loan, after every transaction made at or before the same time.
+     * A transaction made earlier than the last one, such as one imported, is inserted in time order,
+     * and the checkpoints after it are worked out again.
+     * @param timeMillis the time of the transaction, in milliseconds since the epoch
+     * @param cents the amount added, in cents
+     */
+    public void append(long timeMillis, long cents) {
+        if (size == timeBuffer.length) {
+            timeBuffer = Arrays.copyOf(timeBuffer, Math.max(size * 2, INITIAL_CAPACITY));
+        }
+        if (size == amountBuffer.length) {
+            amountBuffer = Arrays.copyOf(amountBuffer, Math.max(size * 2, INITIAL_CAPACITY));
+        }
+
+        int index = countTransactionsUntil(timeMillis);
+        System.arraycopy(timeBuffer, index, timeBuffer, index + 1, size - index);
+        System.arraycopy(amountBuffer, index, amountBuffer, index + 1, size - index);
+        timeBuffer[index] = timeMillis;
+        amountBuffer[index] = cents;
+        size++;
+        balance += cents;
+        if (index == size - 1) {
+            checkpoint();
+        } else {
+            checkpointFrom(index);
+        }
+    }
+
+    /**
+     * Removes a transaction recorded, such as when it is undone.
+     * Of the transactions with the same time and amount, the one recorded last is removed.
+     * @param timeMillis the time of the transaction, in milliseconds since the epoch
+     * @param cents the amount the transaction added, in cents
+     */
+    public void remove(long timeMillis, long cents) {
+        int index = countTransactionsUntil(timeMillis) - 1;
+        while (index >= 0 && timeBuffer[index] == timeMillis && amountBuffer[index] != cents) {
+            index--;
+        }
+        assert index >= 0 && timeBuffer[index] == timeMillis : "There is no such transaction to remove";
+
+        System.arraycopy(timeBuffer, index + 1, timeBuffer, index, size - index - 1);
+        System.arraycopy(amountBuffer, index + 1, amountBuffer, index, size - index - 1);
+        size--;
+        balance -= cents;
+        checkpointFrom(index);
+    }
+
+    /**
+     * Retrieves the balance of the loan just after the given time
+     * @param timeMillis the time to retrieve the balance at, in milliseconds since the epoch
+     * @return the balance at that time, in cents, which is 0 before the first transaction
+     */
+    public long getBalanceAt(long timeMillis) {
+        int numberOfTransactions = countTransactionsUntil(timeMillis);
+        int checkpoint = numberOfTransactions / CHECKPOINT_INTERVAL;
+
+        long balanceAtTime = checkpoint > 0 ? checkpointBuffer[checkpoint - 1] : 0;
+        for (int i = checkpoint * CHECKPOINT_INTERVAL; i < numberOfTransactions; i++) {
+            balanceAtTime += amountBuffer[i];
+        }
+        return balanceAtTime;
+    }
+
+    @JsonIgnore
+    public long getBalance() {
+        return balance;
+    }
+
+    @JsonIgnore
+    public int getSize() {
+        return size;
+    }
+
+    public long getTime(int index) {
+        return timeBuffer[index];
+    }
+
+    public long getAmount(int index) {
+        return amountBuffer[index];
+    }
+
+    /**
+     * Counts the transactions that happened at or before the given time
+     */
+    private int countTransactionsUntil(long timeMillis) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (timeBuffer[middle] <= timeMillis) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Checkpoints the balance if the last transaction completed an interval
+     */
+    private void checkpoint() {
+        if (size % CHECKPOINT_INTERVAL != 0) {
+            return;
+        }
+
+        int checkpoint = size / CHECKPOINT_INTERVAL;
+        if (checkpoint > checkpointBuffer.length) {
+            checkpointBuffer = Arrays.copyOf(checkpointBuffer, checkpointBuffer.length * 2);
+        }
+        checkpointBuffer[checkpoint - 1] = balance;
+    }
+
+    /**
+     * Works out again every checkpoint covering the transaction at the given index
+     */
+    private void checkpointFrom(int index) {
+        int checkpoint = index / CHECKPOINT_INTERVAL;
+        long balanceAtCheckpoint = checkpoint > 0 ? checkpointBuffer[checkpoint - 1] : 0;
+        int lastCheckpoint = size / CHECKPOINT_INTERVAL;
+        if (lastCheckpoint > checkpointBuffer.length) {
+            checkpointBuffer = Arrays.copyOf(checkpointBuffer, Math.max(lastCheckpoint, checkpointBuffer.length * 2));
+        }
+
+        for (int i = checkpoint * CHECKPOINT_INTERVAL; i < lastCheckpoint * CHECKPOINT_INTERVAL; i++) {
+            balanceAtCheckpoint += amountBuffer[i];
+            if ((i + 1) % CHECKPOINT_INTERVAL == 0) {
+                checkpointBuffer[i / CHECKPOINT_INTERVAL] = balanceAtCheckpoint;
+            }
+        }
+    }
+
+    @JsonProperty("times")
+    private long[] getSavedTimes() {
+        return Arrays.copyOf(timeBuffer, size);
+    }
+
+    @JsonProperty("times")
+    private void setSavedTimes(long[] times) {
+        timeBuffer = times;
+    }
+
+    @JsonProperty("amounts")
+    private long[] getSavedAmounts() {
+        return Arrays.copyOf(amountBuffer, size);
+    }
+
+    /**
+     * Restores the amounts saved, and works out the balance and checkpoints again
+     * @param amounts the amounts of every transaction
+     */
+    @JsonProperty("amounts")
+    private void setSavedAmounts(long[] amounts) {
+        amountBuffer = new long[Math.max(amounts.length, INITIAL_CAPACITY)];
+        checkpointBuffer = new long[amounts.length / CHECKPOINT_INTERVAL + 1];
+        size = 0;
+        balance = 0;
+        for (long amount : amounts) {
+            amountBuffer[size++] = amount;
+            balance += amount;
+            checkpoint();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package dukeprogram.facilities;
+
+import dukeprogram.userinterface.WidgetElement;
+import dukeprogram.userinterface.WidgetLoanLabel;
+import utilities.Money;
+
+/**
+ * A Settlement is a transfer of money from one party to another that settles their debts
+ */
+public class Settlement implements WidgetElement {
+
+    private final String payer;
+    private final String payee;
+    private final long cents;
+
+    /**
+     * Creates a Settlement
+     * @param payer the party that pays
+     * @param payee the party that is paid
+     * @param cents the amount paid, in cents
+     */
+    public Settlement(String payer, String payee, long cents) {
+        this.payer = payer;
+        this.payee = payee;
+        this.cents = cents;
+    }
+
+    public String getPayer() {
+        return payer;
+    }
+
+    public String getPayee() {
+        return payee;
+    }
+
+    public long getCents() {
+        return cents;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s pays %s $%s", payer, payee, Money.format(cents));
+    }
+
+    /**
+     * Creates a WidgetLoanLabel standing as a transfer, for use in the dialog bubbles
+     * @return a widget loan label
+     */
+    @Override
+    public WidgetLoanLabel createNode() {
+        return WidgetLoanLabel.createTransferLabel(payer + " pays " + payee, cents);
+    }
+}
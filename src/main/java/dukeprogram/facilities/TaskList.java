@@ -2,25 +2,35 @@ package dukeprogram.facilities;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.regex.Pattern;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import dukeprogram.storage.SaveManager;
 import dukeprogram.tasks.Task;
 import exceptions.KeyNotFoundException;
+import utilities.PersistentList;
 
 /**
  * TaskList is a class that encapsulates the required functionalities
  * of each task list. It also organises all the collected task lists.
+ * The tasks are held in an immutable list that is replaced on every change, so that a snapshot always
+ * holds the same tasks in the same order, even while the task list is changed.
+ * Only the list is immutable: the tasks in it, such as when they are marked, are still changed in place.
+ * Only a single thread may change the task list or its tasks, and saving happens on that thread too.
  */
 public class TaskList implements Serializable {
-    private final ArrayList<Task> taskArrayList;
+    @JsonIgnore
+    private volatile PersistentList<Task> tasks;
+
     /**
      * Creates a new task list
      */
     public TaskList() {
-        taskArrayList = new ArrayList<>();
+        tasks = PersistentList.empty();
     }
 
     /**
@@ -39,9 +49,19 @@ public class TaskList implements Serializable {
         return current;
     }
 
+    /**
+     * Retrieves the current version of the task list, whose order and membership never change,
+     * so that it can be iterated while commands add or remove tasks
+     * @return the tasks of the task list as they are now
+     */
+    @JsonIgnore
+    public PersistentList<Task> getSnapshot() {
+        return tasks;
+    }
+
     @JsonIgnore
     public Task[] getAllTasks() {
-        return taskArrayList.toArray(Task[]::new);
+        return tasks.toList().toArray(Task[]::new);
     }
 
     /**
@@ -53,11 +73,33 @@ public class TaskList implements Serializable {
     public Task[] findTasks(String substring) {
         Pattern pattern = Pattern.compile(String.format("(.*)%s(.*)", substring));
 
-        return taskArrayList.stream()
-                .filter(task -> pattern.matcher(task.getName()).matches())
-                .toArray(Task[]::new);
+        List<Task> tasksFound = new ArrayList<>();
+        for (Task task : tasks) {
+            if (pattern.matcher(task.getName()).matches()) {
+                tasksFound.add(task);
+            }
+        }
+        return tasksFound.toArray(Task[]::new);
     }
 
+    /**
+     * Searches for all tasks with a substring in their names, taking the substring as plain text,
+     * so that names such as "c++" can be found
+     * @param substring the substring to be found within task names
+     * @return the indices of the tasks that match the substring, in ascending order
+     */
+    public int[] findIndices(String substring) {
+        int[] indices = new int[tasks.size()];
+        int numberOfTasksFound = 0;
+        int index = 0;
+        for (Task task : tasks) {
+            if (task.getName().contains(substring)) {
+                indices[numberOfTasksFound++] = index;
+            }
+            index++;
+        }
+        return Arrays.copyOf(indices, numberOfTasksFound);
+    }
 
     /**
      * Retrieves the size of all the stored task lists
@@ -65,7 +107,7 @@ public class TaskList implements Serializable {
      */
     @JsonIgnore
     public int getSize() {
-        return taskArrayList.size();
+        return tasks.size();
     }
 
     /**
@@ -74,23 +116,36 @@ public class TaskList implements Serializable {
      * @return whether the addition to the task list was successful
      */
     public boolean add(Task task) {
-        if (taskArrayList.contains(task)) {
+        if (tasks.indexOf(task) >= 0) {
             return false;
         }
 
-        taskArrayList.add(task);
+        tasks = tasks.add(task);
         return true;
     }
 
+    /**
+     * Adds new tasks to the end of the task list at once, such as when importing them.
+     * Unlike add, the tasks are not checked against those already in the list.
+     * @param newTasks the new tasks to add
+     */
+    public void addAll(List<Task> newTasks) {
+        PersistentList<Task> updatedTasks = tasks;
+        for (Task task : newTasks) {
+            updatedTasks = updatedTasks.add(task);
+        }
+        tasks = updatedTasks;
+    }
+
     /**
      * Clears the entire task list completely
      */
     public void clear() {
-        taskArrayList.clear();
+        tasks = PersistentList.empty();
     }
 
     public Task get(int index) {
-        return taskArrayList.get(index);
+        return tasks.get(index);
     }
 
     /**
@@ -99,11 +154,75 @@ public class TaskList implements Serializable {
      * @return the task that was removed if the index was valid, otherwise null
      */
     public Task remove(int index) {
-        assert index < taskArrayList.size() && index >= 0;
-        return taskArrayList.remove(index);
+        assert index < tasks.size() && index >= 0;
+        Task removedTask = tasks.get(index);
+        tasks = tasks.remove(index);
+        return removedTask;
+    }
+
+    /**
+     * Removes many tasks from the task list at once, publishing the task list only once
+     * @param indices the indices of the tasks to remove, in ascending order without repeats
+     * @return the tasks that were removed, in the order they were in
+     */
+    public List<Task> removeAll(int[] indices) {
+        PersistentList<Task> updatedTasks = tasks;
+        List<Task> removed = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            removed.add(updatedTasks.get(index));
+        }
+        // removing from the back keeps the indices of the tasks still to be removed
+        for (int i = indices.length - 1; i >= 0; i--) {
+            updatedTasks = updatedTasks.remove(indices[i]);
+        }
+        tasks = updatedTasks;
+        return removed;
+    }
+
+    /**
+     * Inserts a task back into the task list, such as when a removal is undone
+     * @param index the index the task is to have
+     * @param task the task to insert
+     */
+    public void insert(int index, Task task) {
+        tasks = tasks.insert(index, task);
+    }
+
+    /**
+     * Inserts many tasks back into the task list at once, reversing removeAll
+     * @param indices the indices the tasks are to have, in ascending order without repeats
+     * @param insertedTasks the tasks to insert, in the same order as their indices
+     */
+    public void insertAll(int[] indices, List<Task> insertedTasks) {
+        PersistentList<Task> updatedTasks = tasks;
+        for (int i = 0; i < indices.length; i++) {
+            updatedTasks = updatedTasks.insert(indices[i], insertedTasks.get(i));
+        }
+        tasks = updatedTasks;
+    }
+
+    /**
+     * Exchanges every task with those of another task list without copying them,
+     * so that clearing the task list can be undone by exchanging them back
+     * @param other the task list to exchange tasks with
+     */
+    public void swapContents(TaskList other) {
+        PersistentList<Task> otherTasks = other.tasks;
+        other.tasks = tasks;
+        tasks = otherTasks;
     }
 
     public int indexOf(Task task) {
-        return taskArrayList.indexOf(task);
+        return tasks.indexOf(task);
+    }
+
+    @JsonProperty("taskArrayList")
+    private List<Task> getSavedTasks() {
+        return tasks.toList();
+    }
+
+    @JsonProperty("taskArrayList")
+    private void setSavedTasks(List<Task> savedTasks) {
+        tasks = PersistentList.of(savedTasks);
     }
 }
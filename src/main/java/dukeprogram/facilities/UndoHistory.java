@@ -0,0 +1,100 @@
+package dukeprogram.facilities;
+
+/**
+ * UndoHistory keeps the most recent edits in a ring buffer, so that they can be undone and redone
+ * in order. Once the buffer is full, recording an edit forgets the oldest one. Recording an edit
+ * after undoing others forgets the edits undone, which can no longer be redone.
+ */
+public class UndoHistory {
+
+    /** The number of edits kept by default */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private final Edit[] edits;
+    private int start = 0;
+    private int size = 0;
+    private int numberOfEditsApplied = 0;
+
+    /**
+     * Creates an UndoHistory
+     * @param capacity the number of edits to keep
+     */
+    public UndoHistory(int capacity) {
+        edits = new Edit[capacity];
+    }
+
+    /**
+     * Records an edit that has just been applied
+     * @param edit the edit applied
+     */
+    public void record(Edit edit) {
+        forget(numberOfEditsApplied, size);
+        size = numberOfEditsApplied;
+
+        if (size == edits.length) {
+            edits[start] = null;
+            start = (start + 1) % edits.length;
+            size--;
+        }
+        edits[(start + size) % edits.length] = edit;
+        size++;
+        numberOfEditsApplied = size;
+    }
+
+    /**
+     * Undoes the last edit applied
+     * @return the edit undone, or null if there is nothing to undo
+     */
+    public Edit undo() {
+        if (numberOfEditsApplied == 0) {
+            return null;
+        }
+
+        numberOfEditsApplied--;
+        Edit edit = edits[(start + numberOfEditsApplied) % edits.length];
+        edit.undo();
+        return edit;
+    }
+
+    /**
+     * Redoes the last edit undone
+     * @return the edit redone, or null if there is nothing to redo
+     */
+    public Edit redo() {
+        if (numberOfEditsApplied == size) {
+            return null;
+        }
+
+        Edit edit = edits[(start + numberOfEditsApplied) % edits.length];
+        edit.redo();
+        numberOfEditsApplied++;
+        return edit;
+    }
+
+    /**
+     * Forgets every edit, such as after a change that cannot be undone
+     */
+    public void clear() {
+        forget(0, size);
+        start = 0;
+        size = 0;
+        numberOfEditsApplied = 0;
+    }
+
+    public int getNumberOfEditsToUndo() {
+        return numberOfEditsApplied;
+    }
+
+    public int getNumberOfEditsToRedo() {
+        return size - numberOfEditsApplied;
+    }
+
+    /**
+     * Releases the edits between two positions, counted from the oldest edit kept
+     */
+    private void forget(int from, int to) {
+        for (int i = from; i < to; i++) {
+            edits[(start + i) % edits.length] = null;
+        }
+    }
+}
@@ -11,6 +11,9 @@ import java.time.temporal.ChronoField;
  * actual LocalDateTime objects.
  */
 public class DateTimeParser {
+    /** The format that dates and times are displayed in, which can also be parsed */
+    public static final DateTimeFormatter DISPLAYED_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yy hh:mm a");
+
     private static final int CURRENT_YEAR = LocalDateTime.now().getYear();
 
     private static final DateTimeFormatter[] DATE_TIME_FORMATTERS = {
@@ -160,7 +163,9 @@ public class DateTimeParser {
 
                     .parseDefaulting(ChronoField.HOUR_OF_DAY, 12)
                     .parseDefaulting(ChronoField.MINUTE_OF_HOUR, 0)
-                    .toFormatter()
+                    .toFormatter(),
+
+            DISPLAYED_FORMAT
     };
 
     /**
@@ -1,21 +1,44 @@
 package dukeprogram.parser;
 
-import java.util.Arrays;
-import java.util.Iterator;
-import java.util.Timer;
-import java.util.TimerTask;
-
 import dukeprogram.Duke;
-import dukeprogram.Main;
+import dukeprogram.command.CommandRegistry;
+import dukeprogram.command.ExitCommand;
+import dukeprogram.command.HelpCommand;
+import dukeprogram.command.RedoCommand;
+import dukeprogram.command.ReplyCommand;
 import dukeprogram.command.SetVariableCommand;
+import dukeprogram.command.UndoCommand;
+import dukeprogram.command.customisations.ChangeProfilePictureCommand;
+import dukeprogram.command.customisations.RenameUserCommand;
 import dukeprogram.command.loans.AccessLoansCommand;
+import dukeprogram.command.loans.AddLoanCommand;
+import dukeprogram.command.loans.CheckLoanBalanceCommand;
+import dukeprogram.command.loans.DeleteLoanCommand;
+import dukeprogram.command.loans.ExportLoansCommand;
+import dukeprogram.command.loans.FindLoanCommand;
+import dukeprogram.command.loans.ImportLoansCommand;
+import dukeprogram.command.loans.ListLoansCommand;
+import dukeprogram.command.loans.RecordDebtCommand;
+import dukeprogram.command.loans.SettleLoansCommand;
+import dukeprogram.command.loans.SummariseLoansCommand;
+import dukeprogram.command.loans.TopLoansCommand;
 import dukeprogram.command.tasks.AccessTasksCommand;
+import dukeprogram.command.tasks.AddDeadlineTaskCommand;
+import dukeprogram.command.tasks.AddEventTaskCommand;
+import dukeprogram.command.tasks.AddTaskCommand;
+import dukeprogram.command.tasks.AddTodoTaskCommand;
+import dukeprogram.command.tasks.DeleteTaskCommand;
+import dukeprogram.command.tasks.ExportCalendarCommand;
+import dukeprogram.command.tasks.ExportTasksCommand;
+import dukeprogram.command.tasks.FindTaskCommand;
+import dukeprogram.command.tasks.ImportTasksCommand;
+import dukeprogram.command.tasks.ListTasksCommand;
+import dukeprogram.command.tasks.MarkTaskCommand;
+import dukeprogram.command.tasks.UnmarkTaskCommand;
 import dukeprogram.userinterface.TextStyle;
-import dukeprogram.userinterface.Widget;
-import dukeprogram.userinterface.WidgetButton;
 import exceptions.IncompleteCommandException;
 import exceptions.InvalidCommandException;
-import javafx.application.Platform;
+import utilities.Tokenizer;
 
 /**
  * Parser will parse a command string in any given command context.
@@ -23,11 +46,69 @@ import javafx.application.Platform;
 public class Parser {
 
     private final Duke duke;
+    private final CommandRegistry commandRegistry;
     private int numberOfInvalidCommands = 0;
     private final int maximumNumberOfInvalidCommands = 5;
 
+    /**
+     * Creates a Parser, registering every command available to the given Duke instance
+     * @param duke the instance of duke this parser parses for
+     */
     public Parser(Duke duke) {
         this.duke = duke;
+        this.commandRegistry = createCommandRegistry(duke);
+    }
+
+    private static CommandRegistry createCommandRegistry(Duke duke) {
+        CommandRegistry registry = new CommandRegistry();
+
+        registry.register("tasks", new AccessTasksCommand(duke));
+        registry.register("tasks list", new ListTasksCommand(duke));
+        registry.register("tasks find", new FindTaskCommand(duke));
+        registry.register("tasks add", new AddTaskCommand(duke));
+        registry.register("tasks add todo", new AddTodoTaskCommand(duke));
+        registry.register("tasks add event", new AddEventTaskCommand(duke));
+        registry.register("tasks add deadline", new AddDeadlineTaskCommand(duke));
+        registry.register("tasks mark", new MarkTaskCommand(duke));
+        registry.register("tasks unmark", new UnmarkTaskCommand(duke));
+        registry.register("tasks delete", new DeleteTaskCommand(duke));
+        registry.register("tasks import", new ImportTasksCommand(duke));
+        registry.register("tasks export", new ExportTasksCommand(duke));
+
+        registry.register("loans", new AccessLoansCommand(duke));
+        registry.register("loans list", new ListLoansCommand(duke));
+        registry.register("loans add", new AddLoanCommand(duke));
+        registry.register("loans delete", new DeleteLoanCommand(duke));
+        registry.register("loans summary", new SummariseLoansCommand(duke));
+        registry.register("loans owed", new CheckLoanBalanceCommand(duke));
+        registry.register("loans record", new RecordDebtCommand(duke));
+        registry.register("loans settle", new SettleLoansCommand(duke));
+        registry.register("loans find", new FindLoanCommand(duke));
+        registry.register("loans top", new TopLoansCommand(duke));
+        registry.register("loans import", new ImportLoansCommand(duke));
+        registry.register("loans export", new ExportLoansCommand(duke));
+
+        registry.register("export ics", new ExportCalendarCommand(duke));
+
+        registry.register("set", new SetVariableCommand(duke));
+        registry.register("set name", new RenameUserCommand(duke));
+        registry.register("set picture", new ChangeProfilePictureCommand(duke));
+
+        registry.register("undo", new UndoCommand(duke));
+        registry.register("redo", new RedoCommand(duke));
+
+        registry.register("help", new HelpCommand(duke));
+        registry.register("bye", new ExitCommand(duke));
+
+        ReplyCommand thanksReply = new ReplyCommand(duke, "Your welcome!");
+        registry.register("thank", thanksReply);
+        registry.register("thanks", thanksReply);
+
+        ReplyCommand greetingReply = new ReplyCommand(duke, "Hello :)");
+        registry.register("hi", greetingReply);
+        registry.register("hello", greetingReply);
+
+        return registry;
     }
 
     /**
@@ -35,99 +116,39 @@ public class Parser {
      * @param userInput the command of the user
      */
     public void parse(String userInput) throws IncompleteCommandException {
-        Iterator<String> elements = convertToIterator(userInput);
+        Tokenizer elements = convertToIterator(userInput);
 
         if (!elements.hasNext()) {
             throw new IncompleteCommandException();
         }
-        String thisElement = elements.next();
 
         try {
-            switch (thisElement) {
-            case "tasks":
-                new AccessTasksCommand(duke).parse(elements);
-                numberOfInvalidCommands = 0;
-                break;
-
-            case "set":
-                new SetVariableCommand(duke).parse(elements);
-                numberOfInvalidCommands = 0;
-                break;
-
-            case "loans":
-                new AccessLoansCommand(duke).parse(elements);
-                numberOfInvalidCommands = 0;
-                break;
-
-            case "help":
-                printHelp();
-                numberOfInvalidCommands = 0;
-                break;
-
-            case "bye":
-                exitProgram();
-                break;
-
-            case "thank":
-            case "thanks":
-                duke.sendMessage("Your welcome!");
-                break;
-
-            case "hi":
-            case "hello":
-                duke.sendMessage("Hello :)");
-                break;
-
-            default:
-                throw new InvalidCommandException(String.format("\"%s\" is not a valid command!", thisElement));
-            }
+            commandRegistry.dispatch(elements);
+            numberOfInvalidCommands = 0;
         } catch (InvalidCommandException | IncompleteCommandException e) {
             countInvalidCommands(e);
         }
     }
 
-    private void exitProgram() {
-        new Timer().schedule(new TimerTask() {
-            @Override
-            public void run() {
-                Platform.exit();
-                System.exit(0);
-            }
-        }, 1300);
-        duke.sendMessage("Goodbye!");
-        duke.serializeToFile();
+    public CommandRegistry getCommandRegistry() {
+        return commandRegistry;
     }
 
     private void countInvalidCommands(Exception e) {
         if (++numberOfInvalidCommands == maximumNumberOfInvalidCommands) {
             duke.sendMessage("Please stop doing that.", TextStyle.Warning);
-            duke.sendMessage("Have a look at the user guide", createWidgetForUserGuide());
+            duke.sendMessage("Have a look at the user guide", HelpCommand.createWidgetForUserGuide());
         } else if (numberOfInvalidCommands < maximumNumberOfInvalidCommands) {
             duke.sendMessage(e.getMessage());
         }
     }
 
-    private void printHelp() {
-        duke.sendMessage("I am able to record tasks or loans.");
-        duke.sendMessage("Type \"tasks help\" for more information regarding tasks.\n"
-                        + "\nOtherwise, type \"loans help\" for more information regarding loans.\n"
-                        + "\nHere is the user guide on how to use this program.",
-                createWidgetForUserGuide());
-    }
-
-    private Widget createWidgetForUserGuide() {
-        return new Widget(new WidgetButton("User Guide",
-                e -> Main.getPrimaryHostService()
-                        .showDocument("https://rui-han-crh.github.io/ip/"))
-        );
-    }
-
     /**
      * Converts the provided string into an iterator split by whitespaces
      * @param input the input string given
-     * @return an iterator of the input, separated by whitespaces
+     * @return a tokenizer over the input, separated by whitespaces
      */
-    public Iterator<String> convertToIterator(String input) {
-        return Arrays.stream(input.split(" ")).iterator();
+    public Tokenizer convertToIterator(String input) {
+        return new Tokenizer(input);
     }
 }
@@ -0,0 +1,68 @@
+package dukeprogram.parser;
+
+import java.util.BitSet;
+import java.util.regex.Pattern;
+
+import dukeprogram.facilities.TaskList;
+import exceptions.InvalidCommandException;
+
+/**
+ * TaskSelectionParser converts a selection of many tasks, such as "1-200", "3,7,9" or "find:report",
+ * to the indices of the tasks selected within a task list
+ */
+public class TaskSelectionParser {
+
+    private static final String FIND_PREFIX = "find:";
+    private static final Pattern RANGES_PATTERN = Pattern.compile("\\d+(-\\d+)?(,\\d+(-\\d+)?)*");
+
+    /**
+     * Parses a selection of many tasks
+     * @param selection the ranges and indices of tasks separated by commas, counting from 1,
+     *                  or "find:" followed by text that the names of the tasks contain
+     * @param taskList the task list to select from
+     * @return the indices of the tasks selected, counting from 0, in ascending order without repeats,
+     *      or null if the selection is a single index or name rather than a selection of many tasks
+     * @throws InvalidCommandException if an index selected is not within the task list,
+     *      or "find:" is not followed by any text
+     */
+    public static int[] parse(String selection, TaskList taskList) throws InvalidCommandException {
+        if (selection.startsWith(FIND_PREFIX)) {
+            String text = selection.substring(FIND_PREFIX.length()).trim();
+            if (text.isEmpty()) {
+                throw new InvalidCommandException("You need to tell me what to find after " + FIND_PREFIX);
+            }
+            return taskList.findIndices(text);
+        }
+
+        String ranges = selection.replaceAll("\\s", "");
+        if (!RANGES_PATTERN.matcher(ranges).matches() || ranges.chars().allMatch(Character::isDigit)) {
+            return null;
+        }
+
+        BitSet selected = new BitSet(taskList.getSize());
+        for (String range : ranges.split(",")) {
+            int dash = range.indexOf('-');
+            int first = parseIndex(dash < 0 ? range : range.substring(0, dash), taskList);
+            int last = dash < 0 ? first : parseIndex(range.substring(dash + 1), taskList);
+            if (first > last) {
+                throw new InvalidCommandException(range + " is not a valid range, as it goes backwards");
+            }
+            selected.set(first, last + 1);
+        }
+        return selected.stream().toArray();
+    }
+
+    private static int parseIndex(String number, TaskList taskList) throws InvalidCommandException {
+        int index;
+        try {
+            index = Integer.parseInt(number) - 1;
+        } catch (NumberFormatException e) {
+            index = -1;
+        }
+
+        if (index < 0 || index >= taskList.getSize()) {
+            throw new InvalidCommandException(number + " is not a valid index within the task list");
+        }
+        return index;
+    }
+}
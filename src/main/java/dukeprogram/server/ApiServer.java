@@ -0,0 +1,310 @@
+package dukeprogram.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import dukeprogram.Duke;
+import dukeprogram.facilities.Loan;
+import dukeprogram.tasks.Task;
+import dukeprogram.userinterface.DukeResponse;
+import dukeprogram.userinterface.JsonResponseSink;
+import dukeprogram.userinterface.ResponseSink;
+import utilities.Money;
+
+/**
+ * ApiServer exposes the task list and the loan collection of Duke as JSON endpoints on localhost.
+ * <ul>
+ *     <li><code>GET /tasks</code> and <code>GET /loans</code> list the tasks and the loans</li>
+ *     <li><code>POST /commands</code> executes the command in the request body, exactly as if it was typed,
+ *     and returns the responses of Duke</li>
+ * </ul>
+ * Requests are handled by a bounded pool of threads. Every command is handed to a single writer thread,
+ * which is the only thread that touches Duke, and which publishes an immutable snapshot of the tasks and
+ * loans after each command that saves a change. Reads are answered from the latest snapshot without taking any lock.
+ * The writer thread also autosaves, without telling any client about it, and saying goodbye is refused,
+ * as the server is stopped from the console that started it.
+ */
+public class ApiServer implements ResponseSink {
+
+    private static final int DEFAULT_PORT = 8080;
+    private static final String USAGE = "Usage: --serve [--port <n>] [--threads <n>] [--commit-every <n>]";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final HttpServer httpServer;
+    private final ExecutorService requestPool;
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor();
+
+    private final List<DukeResponse> pendingResponses = new ArrayList<>();
+    private final Duke duke;
+
+    private volatile Snapshot snapshot;
+    private long numberOfSavesInSnapshot;
+
+    /**
+     * An immutable view of the tasks and loans, already written as JSON
+     */
+    private static class Snapshot {
+        private final byte[] tasks;
+        private final byte[] loans;
+
+        private Snapshot(byte[] tasks, byte[] loans) {
+            this.tasks = tasks;
+            this.loans = loans;
+        }
+    }
+
+    /**
+     * Creates an ApiServer listening on the loopback address
+     * @param port the port to listen on, or 0 to pick any free port
+     * @param numberOfThreads the number of threads that handle requests
+     * @param commitInterval the number of saves made by the commands before writing to disk
+     * @throws IOException if the port could not be bound
+     */
+    public ApiServer(int port, int numberOfThreads, int commitInterval) throws IOException {
+        duke = runOnWriter(() -> {
+            Duke newDuke = new Duke(this);
+            newDuke.setSaveInterval(commitInterval);
+            return newDuke;
+        });
+        snapshot = runOnWriter(this::takeSnapshot);
+        // the greetings given when Duke starts are not part of any request
+        drainResponses();
+        writer.scheduleAtFixedRate(this::autosave,
+                Duke.AUTOSAVE_INTERVAL_MILLIS, Duke.AUTOSAVE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+
+        // the headers and the body of a response are written separately, which Nagle's algorithm would delay
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        requestPool = Executors.newFixedThreadPool(numberOfThreads);
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        httpServer.setExecutor(requestPool);
+        httpServer.createContext("/tasks", exchange -> handleRead(exchange, snapshot.tasks));
+        httpServer.createContext("/loans", exchange -> handleRead(exchange, snapshot.loans));
+        httpServer.createContext("/commands", this::handleCommand);
+    }
+
+    /**
+     * Starts accepting requests
+     */
+    public void start() {
+        httpServer.start();
+    }
+
+    /**
+     * Stops accepting requests, waits for the commands in progress and writes any deferred saves
+     */
+    public void stop() {
+        httpServer.stop(1);
+        requestPool.shutdown();
+        writer.submit(duke::commitPendingSaves);
+        writer.shutdown();
+        try {
+            writer.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    /**
+     * Collects the responses of the command being executed, to be returned with its request
+     * @param response the response of Duke
+     */
+    @Override
+    public synchronized void send(DukeResponse response) {
+        pendingResponses.add(response);
+    }
+
+    /**
+     * Writes any deferred saves on the writer thread, between two commands
+     */
+    private void autosave() {
+        if (duke.hasPendingSaves()) {
+            duke.commitPendingSaves();
+        }
+        // the responses of the autosave are not part of any request
+        drainResponses();
+    }
+
+    private synchronized List<Map<String, Object>> drainResponses() {
+        List<Map<String, Object>> responses = new ArrayList<>();
+        for (DukeResponse response : pendingResponses) {
+            responses.add(JsonResponseSink.toJsonObject(response));
+        }
+        pendingResponses.clear();
+        return responses;
+    }
+
+    private void handleRead(HttpExchange exchange, byte[] body) throws IOException {
+        if (!exchange.getRequestMethod().equals("GET")) {
+            respond(exchange, 405, error("Only GET is allowed here"));
+            return;
+        }
+        respond(exchange, 200, body);
+    }
+
+    private void handleCommand(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestMethod().equals("POST")) {
+            respond(exchange, 405, error("Only POST is allowed here"));
+            return;
+        }
+
+        String command;
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            command = new String(requestBody.readAllBytes(), StandardCharsets.UTF_8).trim();
+        }
+
+        if (command.isEmpty()) {
+            respond(exchange, 400, error("You need to give me a command."));
+            return;
+        }
+
+        try {
+            respond(exchange, 200, runOnWriter(() -> execute(command)));
+        } catch (IOException e) {
+            respond(exchange, 500, error("I couldn't execute that command..."));
+        }
+    }
+
+    /**
+     * Executes a command on the writer thread, and publishes a new snapshot if the command saved a change
+     * @param command the command to execute
+     * @return the responses to the command, written as JSON
+     */
+    private byte[] execute(String command) throws JsonProcessingException {
+        duke.parseInput(command);
+        if (duke.getNumberOfSaves() != numberOfSavesInSnapshot) {
+            snapshot = takeSnapshot();
+        }
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("responses", drainResponses());
+        return objectMapper.writeValueAsBytes(json);
+    }
+
+    private Snapshot takeSnapshot() throws JsonProcessingException {
+        numberOfSavesInSnapshot = duke.getNumberOfSaves();
+        List<Map<String, Object>> tasks = new ArrayList<>();
+        Task[] allTasks = duke.getTaskList().getAllTasks();
+        for (int i = 0; i < allTasks.length; i++) {
+            Map<String, Object> task = new LinkedHashMap<>();
+            task.put("index", i + 1);
+            task.put("name", allTasks[i].getName());
+            task.put("description", allTasks[i].toString());
+            tasks.add(task);
+        }
+
+        List<Map<String, Object>> loans = new ArrayList<>();
+        for (Loan loan : duke.getLoanCollection().getAllLoans()) {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("creditor", loan.getCreditorName());
+            json.put("amount", Money.toDollars(loan.getCents()));
+            json.put("amountInCents", loan.getCents());
+            loans.add(json);
+        }
+
+        return new Snapshot(objectMapper.writeValueAsBytes(tasks), objectMapper.writeValueAsBytes(loans));
+    }
+
+    /**
+     * A piece of work that is run on the writer thread
+     */
+    private interface WriterTask<T> {
+        T run() throws IOException;
+    }
+
+    private <T> T runOnWriter(WriterTask<T> task) throws IOException {
+        try {
+            return writer.submit(task::run).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    private byte[] error(String message) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(Map.of("error", message));
+    }
+
+    private static void respond(HttpExchange exchange, int statusCode, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(statusCode, body.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+        }
+    }
+
+    /**
+     * Serves the API given the arguments
+     * <code>--serve [--port &lt;n&gt;] [--threads &lt;n&gt;] [--commit-every &lt;n&gt;]</code>
+     * @param args the command line arguments
+     */
+    public static void main(String[] args) {
+        int port = DEFAULT_PORT;
+        int numberOfThreads = Runtime.getRuntime().availableProcessors();
+        int commitInterval = 1;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                case "--port":
+                    port = Integer.parseInt(args[++i]);
+                    break;
+
+                case "--threads":
+                    numberOfThreads = Integer.parseInt(args[++i]);
+                    break;
+
+                case "--commit-every":
+                    commitInterval = Integer.parseInt(args[++i]);
+                    break;
+
+                case "--serve":
+                    break;
+
+                default:
+                    System.err.println(USAGE);
+                    return;
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            System.err.println(USAGE);
+            return;
+        }
+
+        try {
+            ApiServer server = new ApiServer(port, Math.max(numberOfThreads, 1), Math.max(commitInterval, 1));
+            Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+            server.start();
+            System.err.printf("Serving Duke at http://localhost:%d%n", server.getPort());
+        } catch (IOException e) {
+            System.err.println("I couldn't start the server: " + e.getMessage());
+        }
+    }
+}
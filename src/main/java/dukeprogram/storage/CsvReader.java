@@ -0,0 +1,97 @@
+package dukeprogram.storage;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CsvReader streams the rows of a CSV file one at a time, so that a file of any length is read
+ * in constant memory. Fields may be quoted, in which case they may contain commas, line breaks
+ * and doubled quotes.
+ */
+public class CsvReader implements Closeable {
+
+    private final BufferedReader reader;
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+    private int lineNumber = 0;
+
+    /**
+     * Creates a CsvReader
+     * @param reader the reader to read the CSV text from
+     */
+    public CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+    }
+
+    /**
+     * Reads the next row. The list returned is reused by the next call.
+     * @return the fields of the next row, or null if there are no more rows
+     * @throws IOException if the text could not be read
+     */
+    public List<String> readRow() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        lineNumber++;
+
+        fields.clear();
+        field.setLength(0);
+        boolean isQuoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!isQuoted) {
+                    break;
+                }
+                // a quoted field goes on to the next line
+                line = reader.readLine();
+                if (line == null) {
+                    throw new IOException("A quoted field is not closed before the end, from line " + lineNumber);
+                }
+                lineNumber++;
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+
+            char c = line.charAt(i++);
+            if (isQuoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i < line.length() && line.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Retrieves the line number that the last row read ended on
+     * @return the line number, counting from 1
+     */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,133 @@
+package dukeprogram.storage;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * IcsWriter streams the lines of an iCalendar file, escaping text and folding long lines
+ * as the format requires, without building the file in memory
+ */
+public class IcsWriter implements Closeable {
+
+    private static final DateTimeFormatter LOCAL_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final int MAX_LINE_BYTES = 75;
+
+    private final BufferedWriter writer;
+
+    /**
+     * Creates an IcsWriter
+     * @param writer the writer to write the iCalendar text to
+     */
+    public IcsWriter(Writer writer) {
+        this.writer = writer instanceof BufferedWriter ? (BufferedWriter) writer : new BufferedWriter(writer);
+    }
+
+    /**
+     * Begins a component, such as a VCALENDAR or VEVENT
+     * @param component the name of the component
+     * @throws IOException if the text could not be written
+     */
+    public void begin(String component) throws IOException {
+        writeProperty("BEGIN", component);
+    }
+
+    /**
+     * Ends a component, such as a VCALENDAR or VEVENT
+     * @param component the name of the component
+     * @throws IOException if the text could not be written
+     */
+    public void end(String component) throws IOException {
+        writeProperty("END", component);
+    }
+
+    /**
+     * Writes a property with a value that needs no escaping, such as a status or a number
+     * @param name the name of the property
+     * @param value the value of the property
+     * @throws IOException if the text could not be written
+     */
+    public void writeProperty(String name, String value) throws IOException {
+        writeLine(name + ":" + value);
+    }
+
+    /**
+     * Writes a property with a value of free text, escaping any characters that have special meanings
+     * @param name the name of the property
+     * @param text the value of the property
+     * @throws IOException if the text could not be written
+     */
+    public void writeTextProperty(String name, String text) throws IOException {
+        StringBuilder line = new StringBuilder(name.length() + text.length() + 8).append(name).append(':');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+            case '\\':
+            case ';':
+            case ',':
+                line.append('\\').append(c);
+                break;
+            case '\n':
+                line.append("\\n");
+                break;
+            case '\r':
+                break;
+            default:
+                line.append(c);
+            }
+        }
+        writeLine(line);
+    }
+
+    /**
+     * Writes a property with a local date and time, which calendars show in the time zone they are in
+     * @param name the name of the property
+     * @param dateTime the value of the property
+     * @throws IOException if the text could not be written
+     */
+    public void writeDateTimeProperty(String name, LocalDateTime dateTime) throws IOException {
+        writeProperty(name, dateTime.format(LOCAL_FORMAT));
+    }
+
+    /**
+     * Writes a property with an instant in time
+     * @param name the name of the property
+     * @param instant the value of the property
+     * @throws IOException if the text could not be written
+     */
+    public void writeInstantProperty(String name, Instant instant) throws IOException {
+        writeProperty(name, LocalDateTime.ofInstant(instant, ZoneOffset.UTC).format(LOCAL_FORMAT) + "Z");
+    }
+
+    /**
+     * Writes a line, folding it onto continuation lines so that no line is longer than 75 bytes
+     */
+    private void writeLine(CharSequence line) throws IOException {
+        int lineBytes = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            int charBytes = c < 0x80 ? 1 : c < 0x800 ? 2 : Character.isHighSurrogate(c) ? 4 : 3;
+            if (lineBytes + charBytes > MAX_LINE_BYTES) {
+                writer.write("\r\n ");
+                lineBytes = 1;
+            }
+
+            writer.write(c);
+            if (charBytes == 4 && i + 1 < line.length()) {
+                writer.write(line.charAt(++i));
+            }
+            lineBytes += charBytes;
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
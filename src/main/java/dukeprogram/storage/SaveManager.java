@@ -1,13 +1,9 @@
 package dukeprogram.storage;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.Serializable;
 import java.nio.file.Path;
-import java.util.Objects;
-import javax.imageio.ImageIO;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
@@ -16,8 +12,6 @@ import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
 
 import exceptions.KeyNotFoundException;
-import javafx.embed.swing.SwingFXUtils;
-import javafx.scene.image.Image;
 
 /**
  * SaveManager manages all the save functionalities
@@ -26,24 +20,6 @@ public class SaveManager {
 
     private static Storage dataInMemory;
 
-    /**
-     * A description of all images that can be loaded
-     */
-    public enum ImageType {
-        DukeImage("Duke.png", new Image(Objects.requireNonNull(
-                SaveManager.class.getResourceAsStream("/images/DaDuke.png")))),
-        UserImage("User.png", new Image(Objects.requireNonNull(
-                SaveManager.class.getResourceAsStream("/images/DaUser.png"))));
-
-        public final String label;
-        public final Image defaultImage;
-
-        ImageType(String label, Image defaultImage) {
-            this.label = label;
-            this.defaultImage = defaultImage;
-        }
-    }
-
     private static final String DATA_FOLDER = System.getProperty("user.home");
     private static final Path PATH = java.nio.file.Paths.get(
             DATA_FOLDER,
@@ -76,34 +52,6 @@ public class SaveManager {
         return (T) dataInMemory.get(header);
     }
 
-    /**
-     * Retrieves a profile picture with the name <code>header</code>
-     * @param imageType the supported Image type to load
-     * @return an image with the given name
-     */
-    public static Image loadProfilePicture(ImageType imageType) {
-        File profilePicturesDirectory = getProfilePicturesDirectory();
-        File imageFile = new File(profilePicturesDirectory, imageType.label);
-
-        try {
-            FileInputStream fileInputStream = new FileInputStream(imageFile);
-            Image image = new Image(fileInputStream);
-            fileInputStream.close();
-            return image;
-        } catch (FileNotFoundException e) {
-            try {
-                ImageIO.write(SwingFXUtils.fromFXImage(imageType.defaultImage, null),
-                        "png", imageFile);
-            } catch (IOException ex) {
-                ex.printStackTrace();
-            }
-            return imageType.defaultImage;
-        } catch (NullPointerException | IOException e) {
-            System.out.println(e.getMessage());
-            return null;
-        }
-    }
-
     private static void createObjectMapper() {
         PolymorphicTypeValidator ptv = BasicPolymorphicTypeValidator.builder()
                 .allowIfSubType(Serializable.class)
@@ -116,6 +64,7 @@ public class SaveManager {
     /**
      * Serializes a file to disk under the path
      * @param fileName the file name to serialize to under the folder path
+     * @throws IOException if the file could not be written
      */
     public static void serialize(String fileName) throws IOException {
         if (objectMapper == null) {
@@ -126,12 +75,7 @@ public class SaveManager {
 
         creatingDirectoriesUpTo(saveFile.getParentFile());
 
-        try {
-            objectMapper.writeValue(saveFile, dataInMemory);
-            System.out.println("Serialization successful, saved at " + saveFile.getPath());
-        } catch (IOException e) {
-            System.out.println(e.getMessage());
-        }
+        objectMapper.writeValue(saveFile, dataInMemory);
     }
 
     /**
@@ -148,12 +92,11 @@ public class SaveManager {
         try {
             dataInMemory = objectMapper.readValue(file, Storage.class);
             assert dataInMemory != null;
-            System.out.println("Saved data successfully retrieved");
             return true;
         } catch (IOException e) {
             if (file.exists()) {
-                System.out.println("Deserialization error, likely corrupt file");
-                System.out.println(e.getMessage());
+                System.err.println("Deserialization error, likely corrupt file");
+                System.err.println(e.getMessage());
             }
             dataInMemory = new Storage();
             return false;
@@ -174,10 +117,10 @@ public class SaveManager {
     private static void creatingDirectoriesUpTo(File folder) {
         try {
             if (folder.mkdirs()) {
-                System.out.println("Created subdirectories at " + folder.getPath());
+                System.err.println("Created subdirectories at " + folder.getPath());
             }
         } catch (SecurityException e) {
-            System.out.println("Read or writing permissions denied at " + folder.getPath());
+            System.err.println("Read or writing permissions denied at " + folder.getPath());
         }
     }
 }
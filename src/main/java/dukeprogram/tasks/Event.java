@@ -1,5 +1,8 @@
 package dukeprogram.tasks;
 
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import dukeprogram.userinterface.TextStyle;
@@ -29,6 +32,24 @@ public class Event extends TaskWithDuration {
         super();
     }
 
+    /**
+     * Retrieves the end date of this event as it was given, or formatted if it could be parsed
+     * @return the text of the end date
+     */
+    @JsonIgnore
+    public String getEndDateText() {
+        return endEvent.getDateText();
+    }
+
+    /**
+     * Retrieves the end date of this event
+     * @return the date and time this event ends, or null if its end date could not be parsed
+     */
+    @JsonIgnore
+    public LocalDateTime getEndDateTime() {
+        return endEvent.getDateTime();
+    }
+
     /**
      * Creates a widget label for this event
      * @return the WidgetTaskLabel for this event
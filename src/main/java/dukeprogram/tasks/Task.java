@@ -1,20 +1,28 @@
 package dukeprogram.tasks;
 
 import java.io.Serializable;
+import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import dukeprogram.userinterface.WidgetElement;
 import dukeprogram.userinterface.WidgetTaskLabel;
+import javafx.scene.layout.Region;
 
 /**
  * A serializable Task class that describes a task in a tasklist
  */
-public abstract class Task implements Serializable {
+public abstract class Task implements Serializable, WidgetElement {
 
     @JsonProperty("name")
     private String name;
     @JsonProperty("isComplete")
     private boolean isComplete;
+    @JsonProperty("uid")
+    private String uid;
+    @JsonProperty("version")
+    private int version;
 
     /**
      * Creates a new task with the given name
@@ -39,18 +47,51 @@ public abstract class Task implements Serializable {
 
     public abstract WidgetTaskLabel createLabelWidget();
 
+    @Override
+    public Region createNode() {
+        return createLabelWidget();
+    }
+
     protected boolean getTaskState() {
         return isComplete;
     }
 
+    @JsonIgnore
+    public boolean isComplete() {
+        return isComplete;
+    }
+
     /**
      * Annotates this task as either complete or incomplete
      * @param isComplete the state to annotate this task with
      */
     public void markJobState(boolean isComplete) {
+        if (this.isComplete != isComplete) {
+            version++;
+        }
         this.isComplete = isComplete;
     }
 
+    /**
+     * Retrieves the identifier of this task in calendars, which is created the first time it is needed
+     * @return the unique identifier of this task
+     */
+    @JsonIgnore
+    public String getCalendarUid() {
+        if (uid == null) {
+            uid = UUID.randomUUID().toString();
+        }
+        return uid;
+    }
+
+    /**
+     * Retrieves the version of this task, which goes up every time the task is changed
+     * @return the version of this task
+     */
+    public int getVersion() {
+        return version;
+    }
+
     /**
      * Returns a string describing the state of completion of this task followed
      * by the name of the task
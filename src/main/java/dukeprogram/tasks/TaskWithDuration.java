@@ -1,7 +1,6 @@
 package dukeprogram.tasks;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -45,12 +44,31 @@ public abstract class TaskWithDuration extends Task {
         LocalDateTime localDate = DateTimeParser.parse(dateString);
         hasValidDateParsed = localDate != null;
         if (hasValidDateParsed) {
-            this.timeString = localDate.format(DateTimeFormatter.ofPattern("dd/MM/yy hh:mm a"));
+            this.timeString = localDate.format(DateTimeParser.DISPLAYED_FORMAT);
         } else {
             this.timeString = dateString;
         }
     }
 
+    /**
+     * Retrieves the date of this task as it was given, or formatted if it could be parsed,
+     * which can be parsed again
+     * @return the text of the date
+     */
+    @JsonIgnore
+    public String getDateText() {
+        return timeString;
+    }
+
+    /**
+     * Retrieves the date of this task
+     * @return the date and time of this task, or null if its date could not be parsed
+     */
+    @JsonIgnore
+    public LocalDateTime getDateTime() {
+        return hasValidDateParsed ? DateTimeParser.parse(timeString) : null;
+    }
+
     /**
      * Retrieves the formatted representation of this task
      */
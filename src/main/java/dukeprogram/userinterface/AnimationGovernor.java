@@ -0,0 +1,164 @@
+package dukeprogram.userinterface;
+
+import java.util.function.LongConsumer;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * AnimationGovernor decides whether an animation may be played. Every animation must ask for a slot
+ * before it plays, and give it back once it has finished. A slot is refused when too many animations
+ * are already playing, when the pulses of the scene have been taking too long while animating, or when
+ * the reduced motion mode is on, in which case the animated node should be placed at once instead.
+ */
+public class AnimationGovernor {
+
+    /** The governor of every animation in the application */
+    public static final AnimationGovernor SHARED = new AnimationGovernor();
+
+    private static final int MAX_ANIMATIONS_IN_FLIGHT = 24;
+    private static final double PULSE_BUDGET_MILLIS = 25;
+    private static final double PULSE_SMOOTHING = 0.2;
+
+    /**
+     * A PulseSource reports the time of every pulse of the scene while it is started
+     */
+    public interface PulseSource {
+        /**
+         * Starts reporting pulses
+         * @param onPulse receives the time of each pulse in nanoseconds
+         */
+        void start(LongConsumer onPulse);
+
+        /**
+         * Stops reporting pulses
+         */
+        void stop();
+    }
+
+    /**
+     * Reports the pulses of the JavaFX application thread with an AnimationTimer,
+     * which is only created once the first animation plays
+     */
+    private static class TimerPulseSource implements PulseSource {
+        private AnimationTimer timer;
+        private LongConsumer onPulse;
+
+        @Override
+        public void start(LongConsumer onPulse) {
+            this.onPulse = onPulse;
+            if (timer == null) {
+                timer = new AnimationTimer() {
+                    @Override
+                    public void handle(long now) {
+                        TimerPulseSource.this.onPulse.accept(now);
+                    }
+                };
+            }
+            timer.start();
+        }
+
+        @Override
+        public void stop() {
+            if (timer != null) {
+                timer.stop();
+            }
+        }
+    }
+
+    private final PulseSource pulseSource;
+
+    private boolean isReducedMotion = false;
+    private int numberOfAnimationsInFlight = 0;
+    private long lastPulseNanos = 0;
+    private double averagePulseMillis = 0;
+    private long numberOfPlayedAnimations = 0;
+    private long numberOfSkippedAnimations = 0;
+
+    private AnimationGovernor() {
+        this(new TimerPulseSource());
+    }
+
+    /**
+     * Creates an AnimationGovernor apart from the shared one
+     * @param pulseSource the source of the pulses measured while animating
+     */
+    public AnimationGovernor(PulseSource pulseSource) {
+        this.pulseSource = pulseSource;
+    }
+
+    /**
+     * Asks for a slot to play an animation in. If a slot is given, it must be released
+     * once the animation has finished or has been stopped.
+     * @return whether the animation may be played
+     */
+    public boolean tryAcquire() {
+        if (isReducedMotion
+                || numberOfAnimationsInFlight >= MAX_ANIMATIONS_IN_FLIGHT
+                || averagePulseMillis > PULSE_BUDGET_MILLIS) {
+            numberOfSkippedAnimations++;
+            return false;
+        }
+
+        if (numberOfAnimationsInFlight++ == 0) {
+            lastPulseNanos = 0;
+            pulseSource.start(this::measurePulse);
+        }
+        numberOfPlayedAnimations++;
+        return true;
+    }
+
+    /**
+     * Gives back the slot of an animation that has finished
+     */
+    public void release() {
+        assert numberOfAnimationsInFlight > 0;
+
+        if (--numberOfAnimationsInFlight == 0) {
+            pulseSource.stop();
+            // the pulses measured no longer reflect the load once nothing is animating
+            averagePulseMillis = 0;
+        }
+    }
+
+    /**
+     * Smooths the time between consecutive pulses, which are only measured while animating
+     * @param now the time of the current pulse in nanoseconds
+     */
+    private void measurePulse(long now) {
+        if (lastPulseNanos != 0) {
+            double pulseMillis = (now - lastPulseNanos) / 1_000_000.0;
+            averagePulseMillis += PULSE_SMOOTHING * (pulseMillis - averagePulseMillis);
+        }
+        lastPulseNanos = now;
+    }
+
+    /**
+     * Turns the reduced motion mode on or off. No new animations are played while it is on.
+     * @param isReducedMotion whether the reduced motion mode is on
+     */
+    public void setReducedMotion(boolean isReducedMotion) {
+        this.isReducedMotion = isReducedMotion;
+    }
+
+    public boolean isReducedMotion() {
+        return isReducedMotion;
+    }
+
+    public int getNumberOfAnimationsInFlight() {
+        return numberOfAnimationsInFlight;
+    }
+
+    public double getAveragePulseMillis() {
+        return averagePulseMillis;
+    }
+
+    /**
+     * Summarises the animations governed
+     * @return a line describing how many animations were played and skipped
+     */
+    @Override
+    public String toString() {
+        return String.format("Played %d animations and skipped %d%s",
+                numberOfPlayedAnimations, numberOfSkippedAnimations, isReducedMotion ? " (reduced motion)" : "");
+    }
+}
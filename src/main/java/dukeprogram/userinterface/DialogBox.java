@@ -1,7 +1,5 @@
 package dukeprogram.userinterface;
 
-import java.io.IOException;
-import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 import dukeprogram.facilities.User;
@@ -11,8 +9,6 @@ import javafx.animation.TranslateTransition;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
-import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.geometry.Bounds;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -32,66 +28,42 @@ import javafx.util.Duration;
 import utilities.StringUtilities;
 
 /**
- * An example of a custom control using FXML.
  * This control represents a dialog box consisting of an ImageView to represent the speaker's face and a label
  * containing text from the speaker.
  */
 public class DialogBox extends HBox {
     private static final Color BACKGROUND_COLOR = Color.color(0.15, 0.15, 0.15);
     private static final Color HIGHLIGHT_COLOR = Color.color(1, 0.5, 0);
-
-    @FXML
-    private Label name;
-    @FXML
-    private Label dialog;
-    @FXML
-    private Label date;
-    @FXML
-    private VBox dialogLayout;
-    @FXML
+    private static final Insets NAME_PADDING = new Insets(0, 0, 5, 0);
+    private static final Insets LAYOUT_PADDING = new Insets(5, 10, 5, 10);
+    private static final Background DUKE_BACKGROUND = createBackground(0.8, 1, 0.9, 1);
+    private static final Background USER_BACKGROUND = createBackground(0, 0.2, 0.1, 0);
+
+    private final Label name = createLabel();
+    private final Label dialog = createLabel();
+    private final Label date = createLabel();
+    private final VBox dialogLayout = new VBox(name, dialog, date);
     private Widget widget;
 
     private boolean isDuke;
 
-    protected DialogBox(String dialogText, User user, TextStyle style, Widget widget) {
-        this(dialogText, user, style);
-        this.widget = widget;
-
-        ObservableList<Node> observableList = dialogLayout.getChildren();
-
-        Region spacing = new Region();
-        spacing.setMinHeight(10);
-
-        observableList.add(observableList.size() - 1, spacing);
-        observableList.add(observableList.size() - 1, widget);
-
-        dialogLayout.minWidthProperty().unbind();
-        dialogLayout.setMinWidth(dialogLayout.getMaxWidth());
-    }
-
-    protected DialogBox(String dialogText, User user, TextStyle style) {
-        try {
-            FXMLLoader fxmlLoader = new FXMLLoader(MainWindow.class.getResource("/view/DialogBox.fxml"));
-            fxmlLoader.setController(this);
-            fxmlLoader.setRoot(this);
-            fxmlLoader.load();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+    protected DialogBox(DukeResponse response, User user, boolean isAnimated) {
+        super(3);
+        buildLayout();
 
         name.getStyleClass().add("header");
-        dialog.getStyleClass().add(style.label);
+        dialog.getStyleClass().add(response.getStyle().label);
         date.getStyleClass().add("tag");
 
         name.setText(user.getName());
-        dialog.setText(dialogText);
+        dialog.setText(response.getText());
         dialog.setMinWidth(Math.min(
                 StringUtilities.computeTextWidth(dialog.getFont(), dialog.getText(), 50),
                 dialogLayout.getMaxWidth()));
 
         dialog.setPadding(new Insets(0, 0, 0, 25));
         date.setPrefWidth(Double.MAX_VALUE);
-        date.setText(LocalDateTime.now().format(DateTimeFormatter.ofPattern("hh:mm a")));
+        date.setText(response.getTime().format(DateTimeFormatter.ofPattern("hh:mm a")));
 
         if (user.equals(User.DUKE)) {
             isDuke = true;
@@ -99,7 +71,60 @@ public class DialogBox extends HBox {
         }
 
         dialogLayout.minWidthProperty().bind(dialog.widthProperty());
-        createAnimation(user);
+        if (response.hasWidget()) {
+            attachWidget(new Widget(response.getWidgetElements()));
+        }
+
+        if (isAnimated) {
+            createAnimation(user);
+        }
+    }
+
+    /**
+     * Lays out the name, the dialog and the date of this dialog box.
+     * The layout is built in code, as parsing it from FXML for every dialog box is far slower.
+     */
+    private void buildLayout() {
+        setAlignment(Pos.BOTTOM_RIGHT);
+        setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
+
+        name.setPadding(NAME_PADDING);
+        dialog.setMaxWidth(350);
+        dialog.setAlignment(Pos.TOP_RIGHT);
+        date.setMaxHeight(Double.MAX_VALUE);
+
+        dialogLayout.setAlignment(Pos.TOP_RIGHT);
+        dialogLayout.setMinWidth(100);
+        dialogLayout.setPrefWidth(100);
+        dialogLayout.setMaxWidth(330);
+        dialogLayout.setPadding(LAYOUT_PADDING);
+
+        getChildren().add(dialogLayout);
+    }
+
+    private static Label createLabel() {
+        Label label = new Label();
+        label.setWrapText(true);
+        return label;
+    }
+
+    /**
+     * Attaches a widget below the text of this dialog box
+     * @param widget the widget to attach
+     */
+    private void attachWidget(Widget widget) {
+        this.widget = widget;
+
+        ObservableList<Node> observableList = dialogLayout.getChildren();
+
+        Region spacing = new Region();
+        spacing.setMinHeight(10);
+
+        observableList.add(observableList.size() - 1, spacing);
+        observableList.add(observableList.size() - 1, widget);
+
+        dialogLayout.minWidthProperty().unbind();
+        dialogLayout.setMinWidth(dialogLayout.getMaxWidth());
     }
 
     /**
@@ -116,60 +141,36 @@ public class DialogBox extends HBox {
 
     /**
      * Creates a dialog box belonging to the user
-     * @param text the text to show in the dialog box
+     * @param message the message the user sent
      * @param user the user profile who sent the text
+     * @param isAnimated whether the dialog box should animate its entrance
      * @return the constructed dialog box
      */
-    public static DialogBox ofUser(String text, User user) {
-        DialogBox dialogBox = new DialogBox(text, user, TextStyle.Regular);
+    public static DialogBox ofUser(DukeResponse message, User user, boolean isAnimated) {
+        DialogBox dialogBox = new DialogBox(message, user, isAnimated);
         setBackground(dialogBox);
         return dialogBox;
     }
 
     /**
-     * Creates a dialog box belonging to Duke
-     * @param text the text to show in the dialog box
-     * @param style the text style of the rendered text
+     * Creates a dialog box belonging to Duke that renders the given response,
+     * including its widget if it has one
+     * @param response the response to render
+     * @param isAnimated whether the dialog box should animate its entrance
      * @return the constructed dialog box
      */
-    public static DialogBox ofDuke(String text, TextStyle style) {
-        DialogBox dialogBox = new DialogBox(text, User.DUKE, style);
-        setBackground(dialogBox);
-        return dialogBox;
-    }
-
-    /**
-     * Creates a dialog box belonging to Duke
-     * @param text the text to show in the dialog box
-     * @param style the text style of the rendered text
-     * @param widget the widget to attach after the text
-     * @return the constructed dialog box
-     */
-    public static DialogBox ofDuke(String text, TextStyle style, Widget widget) {
-        DialogBox dialogBox = new DialogBox(text, User.DUKE, style, widget);
+    public static DialogBox ofDuke(DukeResponse response, boolean isAnimated) {
+        DialogBox dialogBox = new DialogBox(response, User.DUKE, isAnimated);
         setBackground(dialogBox);
         return dialogBox;
     }
 
     private static void setBackground(DialogBox box) {
-        double startX;
-        double endX;
-        double offsetDuke;
-        double offsetUser;
-
-        if (box.isDuke) {
-            startX = 0.8;
-            endX = 1;
-            offsetDuke = 0.9;
-            offsetUser = 1;
-        } else {
-            startX = 0;
-            endX = 0.2;
-            offsetDuke = 0.1;
-            offsetUser = 0;
-        }
+        box.dialogLayout.setBackground(box.isDuke ? DUKE_BACKGROUND : USER_BACKGROUND);
+    }
 
-        box.dialogLayout.setBackground(new Background(new BackgroundFill(
+    private static Background createBackground(double startX, double endX, double offsetDuke, double offsetUser) {
+        return new Background(new BackgroundFill(
                 new LinearGradient(startX,
                         0.5,
                         endX,
@@ -180,8 +181,7 @@ public class DialogBox extends HBox {
                         new Stop(offsetUser, HIGHLIGHT_COLOR)
                 ),
                 new CornerRadii(10),
-                Insets.EMPTY))
-        );
+                Insets.EMPTY));
     }
 
     private void createAnimation(User user) {
@@ -189,6 +189,11 @@ public class DialogBox extends HBox {
             @Override
             public void changed(ObservableValue<? extends Bounds> observable,
                                 Bounds oldValue, Bounds newValue) {
+                DialogBox.this.layoutBoundsProperty().removeListener(this);
+                if (!AnimationGovernor.SHARED.tryAcquire()) {
+                    return;
+                }
+
                 double width = getBoundsInParent().getWidth();
                 double height = getBoundsInParent().getHeight();
 
@@ -206,8 +211,9 @@ public class DialogBox extends HBox {
                 scaleTransition.setToX(1);
                 scaleTransition.setToY(1);
 
-                new ParallelTransition(translateTransition, scaleTransition).play();
-                DialogBox.this.layoutBoundsProperty().removeListener(this);
+                ParallelTransition entrance = new ParallelTransition(translateTransition, scaleTransition);
+                entrance.setOnFinished(event -> AnimationGovernor.SHARED.release());
+                entrance.play();
             }
         });
     }
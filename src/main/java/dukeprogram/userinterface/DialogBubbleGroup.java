@@ -1,6 +1,5 @@
 package dukeprogram.userinterface;
 
-import dukeprogram.facilities.User;
 import javafx.geometry.Pos;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -18,9 +17,8 @@ public class DialogBubbleGroup extends HBox {
      * Creates a new DialogBubbleGroup for the user
      * @param spaceBetweenBubbles the space between the chat bubbles
      * @param picture the user's picture
-     * @param parent the parent of this group
      */
-    public DialogBubbleGroup(int spaceBetweenBubbles, Image picture, VBox parent) {
+    public DialogBubbleGroup(int spaceBetweenBubbles, Image picture) {
         dialogBubbleContainer = new VBox(spaceBetweenBubbles);
 
         ImageView displayPicture = new ImageView();
@@ -29,36 +27,36 @@ public class DialogBubbleGroup extends HBox {
         displayPicture.setImage(picture);
         getChildren().addAll(dialogBubbleContainer, displayPicture);
 
-        new LayoutAnimator(true, true, 400)
-                .observe(getChildren());
+        LayoutAnimator.SHARED.observe(getChildren());
 
-        new DropShadowCircleFrame(25, 25, 1, 1)
+        new DropShadowCircleFrame(ProfilePictures.DISPLAY_SIZE / 2, ProfilePictures.DISPLAY_SIZE / 2, 1, 1)
                 .frame(displayPicture);
-
-        parent.getChildren().add(this);
     }
 
     /**
      * Creates a new DialogBubbleGroup for Duke
      * @param spaceBetweenBubbles the space between the chat bubbles
-     * @param parent the parent of this group
      */
-    public DialogBubbleGroup(int spaceBetweenBubbles, VBox parent) {
+    public DialogBubbleGroup(int spaceBetweenBubbles) {
         dialogBubbleContainer = new VBox(spaceBetweenBubbles);
 
         ImageView displayPicture = new ImageView();
 
         setAlignment(Pos.BOTTOM_LEFT);
-        displayPicture.setImage(User.DUKE.getUserImage());
+        displayPicture.setImage(ProfilePictures.load(ProfilePictures.ImageType.DukeImage));
         getChildren().addAll(displayPicture, dialogBubbleContainer);
 
-        new LayoutAnimator(true, true, 400)
-                .observe(getChildren());
+        LayoutAnimator.SHARED.observe(getChildren());
 
-        new DropShadowCircleFrame(25, 25, 1, 1)
+        new DropShadowCircleFrame(ProfilePictures.DISPLAY_SIZE / 2, ProfilePictures.DISPLAY_SIZE / 2, 1, 1)
                 .frame(displayPicture);
+    }
 
-        parent.getChildren().add(this);
+    /**
+     * Stops animating the layout of this group, once it is no longer shown
+     */
+    public void stopAnimating() {
+        LayoutAnimator.SHARED.unobserve(getChildren());
     }
 
     public VBox getDialogBubbleContainer() {
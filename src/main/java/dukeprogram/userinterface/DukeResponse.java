@@ -1,6 +1,7 @@
 package dukeprogram.userinterface;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * An association class representing how Duke returned a response to the application
@@ -9,37 +10,56 @@ public class DukeResponse {
 
     private final String text;
     private final TextStyle style;
-    private final Optional<Widget> optionalWidget;
+    private final List<WidgetElement> widgetElements;
+    private final LocalDateTime time = LocalDateTime.now();
 
     /**
      * Creates a Duke response
      * @param text the text that Duke would say
-     * @param widget an optional widget to represent additional information,
-     *               if null is passed, then nothing will be rendered
+     * @param widgetElements the elements of a widget representing additional information,
+     *                       if the list is empty, then no widget will be rendered
      * @param style the text style to render the text in
      */
-    public DukeResponse(String text, Widget widget, TextStyle style) {
+    public DukeResponse(String text, List<? extends WidgetElement> widgetElements, TextStyle style) {
         this.text = text;
         this.style = style;
-        optionalWidget = widget != null ? Optional.of(widget) : Optional.empty();
+        this.widgetElements = List.copyOf(widgetElements);
     }
 
     public DukeResponse(String text, TextStyle style) {
-        this(text, null, style);
+        this(text, List.of(), style);
     }
 
-    /**
-     * Creates a dialog box for this response
-     * @return a dialog box
-     */
-    public DialogBox createDialogBox() {
-        return optionalWidget
-                .map(widget -> DialogBox.ofDuke(text, style, widget))
-                .orElseGet(() -> DialogBox.ofDuke(text, style));
+    public String getText() {
+        return text;
+    }
+
+    public TextStyle getStyle() {
+        return style;
+    }
+
+    public List<WidgetElement> getWidgetElements() {
+        return widgetElements;
     }
 
+    public LocalDateTime getTime() {
+        return time;
+    }
+
+    public boolean hasWidget() {
+        return !widgetElements.isEmpty();
+    }
+
+    /**
+     * Returns the text of this response, followed by each widget element on its own line
+     * @return the plain text representation of this response
+     */
     @Override
     public String toString() {
-        return optionalWidget.isPresent() ? text + " [Widget not shown]" : text;
+        StringBuilder sb = new StringBuilder(text);
+        for (WidgetElement element : widgetElements) {
+            sb.append(System.lineSeparator()).append(element);
+        }
+        return sb.toString();
     }
 }
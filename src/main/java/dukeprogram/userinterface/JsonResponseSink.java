@@ -0,0 +1,52 @@
+package dukeprogram.userinterface;
+
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * JsonResponseSink renders each response of Duke as a JSON object on its own line,
+ * containing the text, the text style and the widget elements of the response
+ */
+public class JsonResponseSink implements ResponseSink {
+
+    private final PrintStream output;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Creates a JsonResponseSink
+     * @param output the stream to print the responses to
+     */
+    public JsonResponseSink(PrintStream output) {
+        this.output = output;
+    }
+
+    @Override
+    public void send(DukeResponse response) {
+        try {
+            output.println(objectMapper.writeValueAsString(toJsonObject(response)));
+        } catch (JsonProcessingException e) {
+            output.println("{\"error\": \"This response could not be written\"}");
+        }
+    }
+
+    /**
+     * Converts a response into the object written for it, containing the text,
+     * the text style and the widget elements of the response
+     * @param response the response to convert
+     * @return a map that can be written as a JSON object
+     */
+    public static Map<String, Object> toJsonObject(DukeResponse response) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("text", response.getText());
+        json.put("style", response.getStyle().label);
+        json.put("widget", response.getWidgetElements().stream()
+                .map(WidgetElement::toString)
+                .collect(Collectors.toList()));
+        return json;
+    }
+}
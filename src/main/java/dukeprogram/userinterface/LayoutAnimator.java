@@ -1,8 +1,12 @@
 package dukeprogram.userinterface;
 
+import java.util.ArrayDeque;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
 
 import javafx.animation.TranslateTransition;
 import javafx.beans.property.DoubleProperty;
@@ -18,14 +22,25 @@ import javafx.util.Duration;
  * additional items are added to a Region, and the layout has changed, then the
  * layout animator makes the transition by sliding each item into its final
  * place.
+ * <p>
+ * A node is only referenced by the animator while it is sliding, and the transitions that
+ * have finished are kept for reuse. If the AnimationGovernor refuses to let a node slide,
+ * it is placed immediately instead.
  */
 public class LayoutAnimator implements ChangeListener<Number>, ListChangeListener<Node> {
 
+    /** The animator shared by all the dialog bubble groups */
+    public static final LayoutAnimator SHARED = new LayoutAnimator(true, true, 400);
+
+    private static final int MAX_IDLE_TRANSITIONS = 24;
+
     private final boolean canHorizontalSlide;
     private final boolean canVerticalSlide;
-    private final int duration;
-    private final Map<Node, TranslateTransition> nodeXTransitions = new HashMap<>();
-    private final Map<Node, TranslateTransition> nodeYTransitions = new HashMap<>();
+    private final Duration duration;
+    private final Set<Node> horizontallyLaidOutNodes = Collections.newSetFromMap(new WeakHashMap<>());
+    private final Set<Node> verticallyLaidOutNodes = Collections.newSetFromMap(new WeakHashMap<>());
+    private final Map<Node, TranslateTransition> transitionsInFlight = new HashMap<>();
+    private final ArrayDeque<TranslateTransition> idleTransitions = new ArrayDeque<>();
 
     /**
      * Creates a new LayoutAnimator
@@ -39,7 +54,7 @@ public class LayoutAnimator implements ChangeListener<Number>, ListChangeListene
                           int milliseconds) {
         this.canHorizontalSlide = canHorizontalSlide;
         this.canVerticalSlide = canVerticalSlide;
-        duration = milliseconds;
+        duration = Duration.millis(milliseconds);
     }
 
 
@@ -47,11 +62,10 @@ public class LayoutAnimator implements ChangeListener<Number>, ListChangeListene
      * Animates all the children of a Region.
      * <code>
      *   VBox myVbox = new VBox();
-     *   LayoutAnimator animator = new LayoutAnimator();
-     *   animator.observe(myVbox.getChildren());
+     *   LayoutAnimator.SHARED.observe(myVbox.getChildren());
      * </code>
      *
-     * @param nodes
+     * @param nodes the observable list of nodes to animate
      */
     public void observe(ObservableList<Node> nodes) {
         for (Node node : nodes) {
@@ -75,15 +89,30 @@ public class LayoutAnimator implements ChangeListener<Number>, ListChangeListene
      */
     public void unobserve(ObservableList<Node> nodes) {
         nodes.removeListener(this);
+        for (Node node : nodes) {
+            this.unobserve(node);
+        }
     }
 
     /**
-     * Unobserve the node
+     * Unobserve the node, and stops it from sliding if it is
      * @param n the node to stop observing
      */
     public void unobserve(Node n) {
         n.layoutXProperty().removeListener(this);
         n.layoutYProperty().removeListener(this);
+        horizontallyLaidOutNodes.remove(n);
+        verticallyLaidOutNodes.remove(n);
+
+        TranslateTransition transition = transitionsInFlight.get(n);
+        if (transition != null) {
+            transition.stop();
+            release(transition);
+        }
+    }
+
+    public int getNumberOfTransitionsInFlight() {
+        return transitionsInFlight.size();
     }
 
     @Override
@@ -91,39 +120,68 @@ public class LayoutAnimator implements ChangeListener<Number>, ListChangeListene
         final double delta = newValue.doubleValue() - oldValue.doubleValue();
         final DoubleProperty doubleProperty = (DoubleProperty) ov;
         final Node node = (Node) doubleProperty.getBean();
+        final boolean isHorizontal = doubleProperty.getName().equals("layoutX");
 
-        TranslateTransition t = null;
-        boolean isFirstOccurrence = false;
-        if (doubleProperty.getName().equals("layoutX") && canHorizontalSlide) {
-            t = nodeXTransitions.get(node);
-            if (t == null) {
-                t = new TranslateTransition(Duration.millis(duration), node);
-                t.setToX(0);
-                nodeXTransitions.put(node, t);
-                isFirstOccurrence = true;
-            }
-            t.setFromX(node.getTranslateX() - delta);
+        if (isHorizontal ? !canHorizontalSlide : !canVerticalSlide) {
+            return;
+        }
 
-            if (!isFirstOccurrence) {
-                node.setTranslateX(node.getTranslateX() - delta);
-            }
-        } else if (doubleProperty.getName().equals("layoutY") && canVerticalSlide) {
-            t = nodeYTransitions.get(node);
-            if (t == null) {
-                t = new TranslateTransition(Duration.millis(duration), node);
-                t.setToY(0);
-                nodeYTransitions.put(node, t);
-                isFirstOccurrence = true;
-            }
-            t.setFromY(node.getTranslateY() - delta);
+        // the first layout of a node places it, rather than moving it
+        Set<Node> laidOutNodes = isHorizontal ? horizontallyLaidOutNodes : verticallyLaidOutNodes;
+        if (laidOutNodes.add(node)) {
+            return;
+        }
 
-            if (!isFirstOccurrence) {
-                node.setTranslateY(node.getTranslateY() - delta);
+        TranslateTransition transition = transitionsInFlight.get(node);
+        if (transition == null) {
+            if (!AnimationGovernor.SHARED.tryAcquire()) {
+                return;
             }
+            transition = acquire(node);
+        }
+
+        if (isHorizontal) {
+            node.setTranslateX(node.getTranslateX() - delta);
+        } else {
+            node.setTranslateY(node.getTranslateY() - delta);
+        }
+
+        transition.setFromX(node.getTranslateX());
+        transition.setFromY(node.getTranslateY());
+        transition.playFromStart();
+    }
+
+    /**
+     * Retrieves an idle transition, or creates one if there are none, to slide the node
+     * @param node the node to slide
+     * @return a transition sliding the node back to its place
+     */
+    private TranslateTransition acquire(Node node) {
+        TranslateTransition transition = idleTransitions.poll();
+        if (transition == null) {
+            transition = new TranslateTransition();
+            TranslateTransition newTransition = transition;
+            transition.setOnFinished(event -> release(newTransition));
         }
 
-        if (!isFirstOccurrence && t != null) {
-            t.playFromStart();
+        transition.setDuration(duration);
+        transition.setNode(node);
+        transition.setToX(0);
+        transition.setToY(0);
+        transitionsInFlight.put(node, transition);
+        return transition;
+    }
+
+    /**
+     * Lets go of the node slid by the transition, and keeps the transition for reuse
+     * @param transition the transition that has finished
+     */
+    private void release(TranslateTransition transition) {
+        AnimationGovernor.SHARED.release();
+        transitionsInFlight.remove(transition.getNode());
+        transition.setNode(null);
+        if (idleTransitions.size() < MAX_IDLE_TRANSITIONS) {
+            idleTransitions.push(transition);
         }
     }
 
@@ -131,14 +189,15 @@ public class LayoutAnimator implements ChangeListener<Number>, ListChangeListene
     @SuppressWarnings("unchecked")
     public void onChanged(Change change) {
         while (change.next()) {
+            if (change.wasRemoved()) {
+                for (Node node : (List<Node>) change.getRemoved()) {
+                    this.unobserve(node);
+                }
+            }
             if (change.wasAdded()) {
                 for (Node node : (List<Node>) change.getAddedSubList()) {
                     this.observe(node);
                 }
-            } else if (change.wasRemoved()) {
-                for (Node node : (List<Node>) change.getRemoved()) {
-                    this.unobserve(node);
-                }
             }
         }
     }
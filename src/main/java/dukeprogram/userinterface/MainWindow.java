@@ -1,47 +1,49 @@
 package dukeprogram.userinterface;
 
-import java.util.LinkedList;
+import java.util.List;
+import java.util.Timer;
+import java.util.TimerTask;
 
 import dukeprogram.Duke;
-import javafx.animation.PauseTransition;
-import javafx.animation.Transition;
+import dukeprogram.StartupTimer;
+import dukeprogram.facilities.User;
 import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
+import javafx.scene.Scene;
 import javafx.scene.control.Button;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.ListView;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.BackgroundFill;
 import javafx.scene.layout.CornerRadii;
-import javafx.scene.layout.VBox;
+import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
-import javafx.util.Duration;
 
 /**
  * Controller for MainWindow. Provides the layout for the other controls.
  */
-public class MainWindow extends AnchorPane {
+public class MainWindow extends AnchorPane implements ResponseSink {
     @FXML
-    private ScrollPane scrollPane;
-    @FXML
-    private VBox dialogContainer;
+    private ListView<TranscriptGroup> transcript;
     @FXML
     private TextField userInput;
     @FXML
     private Button sendButton;
+    @FXML
+    private StackPane loadingPane;
 
     private Duke duke;
 
     private Application app;
 
-    private boolean hasStoppedResponse = true;
-    private final LinkedList<DukeResponse> queuedResponses = new LinkedList<>();
-    private boolean wasUserDialogPreviously = true;
-    private DialogBubbleGroup groupedDialogBubbles;
-    private boolean isScrolling = false;
-    private int numberOfBubbles = 0;
+    private final ResponseScheduler responseScheduler = new ResponseScheduler(this::renderResponses);
 
     /**
      * Initialises the main window
@@ -54,102 +56,191 @@ public class MainWindow extends AnchorPane {
                 Insets.EMPTY))
         );
 
-        dialogContainer.heightProperty().addListener(c -> scrollSmoothly());
-        duke = new Duke(this);
+        transcript.setCellFactory(listView -> new TranscriptCell());
+        userInput.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB) {
+                completeUserInput();
+                event.consume();
+            }
+        });
+        loadDuke();
     }
 
-    private void scrollSmoothly() {
-        Transition smoothScrollTransition = new Transition() {
-            private double startValue = scrollPane.getVvalue();
-            private double difference = 1 - startValue;
+    /**
+     * Creates Duke on a background thread, as it reads the save file, so that the window can be shown
+     * at once. The user input is enabled once Duke has been created.
+     */
+    private void loadDuke() {
+        userInput.setDisable(true);
+        sendButton.setDisable(true);
 
-            {
-                setCycleDuration(Duration.millis(300));
-            }
+        Task<Duke> loadingTask = new Task<>() {
             @Override
-            protected void interpolate(double fraction) {
-                scrollPane.setVvalue(this.startValue + fraction * difference);
+            protected Duke call() {
+                return new Duke(MainWindow.this);
             }
         };
+        loadingTask.setOnSucceeded(event -> {
+            duke = loadingTask.getValue();
+            duke.setExitHandler(MainWindow::exitApplication);
+            startAutosave();
+            StartupTimer.SHARED.mark("save file loaded");
+            loadingPane.setVisible(false);
+            userInput.setDisable(false);
+            sendButton.setDisable(false);
+            userInput.requestFocus();
+            markFirstInteractiveFrame();
+        });
+        loadingTask.setOnFailed(event -> {
+            loadingTask.getException().printStackTrace();
+            loadingPane.setVisible(false);
+            send(new DukeResponse("I couldn't start up properly, please restart me...", TextStyle.Warning));
+        });
+
+        Thread loadingThread = new Thread(loadingTask, "duke-loader");
+        loadingThread.setDaemon(true);
+        loadingThread.start();
+    }
+
+    /**
+     * Autosaves Duke every few minutes on the JavaFX application thread, which is the thread that runs its commands
+     */
+    private void startAutosave() {
+        Timer autosaveTimer = new Timer("duke-autosave", true);
+        autosaveTimer.scheduleAtFixedRate(new TimerTask() {
+            @Override
+            public void run() {
+                Platform.runLater(duke::autosave);
+            }
+        }, Duke.AUTOSAVE_INTERVAL_MILLIS, Duke.AUTOSAVE_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Closes the program after a short while, so that the goodbye can still be read
+     */
+    private static void exitApplication() {
+        new Timer().schedule(new TimerTask() {
+            @Override
+            public void run() {
+                Platform.exit();
+                System.exit(0);
+            }
+        }, 1300);
+    }
+
+    /**
+     * Marks the first frame shown after the user input has been enabled
+     */
+    private void markFirstInteractiveFrame() {
+        Scene scene = transcript.getScene();
+        if (scene == null) {
+            StartupTimer.SHARED.markFirstInteractiveFrame();
+            return;
+        }
+
+        scene.addPostLayoutPulseListener(new Runnable() {
+            @Override
+            public void run() {
+                scene.removePostLayoutPulseListener(this);
+                StartupTimer.SHARED.markFirstInteractiveFrame();
+            }
+        });
+    }
+
+    /**
+     * Completes the last word of the user input to the longest prefix shared by
+     * all the registered commands that it can be completed to
+     */
+    private void completeUserInput() {
+        if (duke == null) {
+            return;
+        }
+        List<String> completions = duke.getCommandRegistry().complete(userInput.getText());
+        if (completions.isEmpty()) {
+            return;
+        }
 
-        if (!isScrolling) {
-            isScrolling = true;
-            smoothScrollTransition.play();
-            smoothScrollTransition.setOnFinished(e -> isScrolling = false);
+        String sharedPrefix = completions.get(0);
+        for (String completion : completions) {
+            int i = 0;
+            while (i < sharedPrefix.length() && i < completion.length()
+                    && sharedPrefix.charAt(i) == completion.charAt(i)) {
+                i++;
+            }
+            sharedPrefix = sharedPrefix.substring(0, i);
         }
+
+        userInput.setText(completions.size() == 1 ? sharedPrefix + " " : sharedPrefix);
+        userInput.positionCaret(userInput.getText().length());
     }
 
     /**
-     * Creates two dialog boxes, one echoing user input and the other containing Duke's reply
-     * and then appends them to the dialog container. Clears the user input after processing.
+     * Echoes the user input to the transcript, followed by Duke's reply.
+     * Clears the user input after processing.
      */
     @FXML
     private void handleUserInput() {
+        if (duke == null) {
+            return;
+        }
         String input = userInput.getText();
 
-        getDialogGroup(true).getChildren().add(DialogBox.ofUser(input, duke.getUser()));
-        incrementAndClearExcessDialogBubbles();
+        appendToTranscript(duke.getUser(), new DukeResponse(input, TextStyle.Regular));
+        transcript.scrollTo(transcript.getItems().size() - 1);
         duke.parseInput(input);
         userInput.clear();
     }
 
     /**
-     * Sends a dialog from Duke to the user
+     * Sends a dialog from Duke to the user, paced by the response scheduler
      * @param response the response to show to the user
      */
-    public void sendDukeDialog(DukeResponse response) {
-        queuedResponses.addLast(response);
-
-        if (hasStoppedResponse) {
-            consumeResponse();
+    @Override
+    public void send(DukeResponse response) {
+        if (!Platform.isFxApplicationThread()) {
+            // responses such as those of the loading task are sent from other threads
+            Platform.runLater(() -> send(response));
+            return;
         }
+        responseScheduler.submit(response);
     }
 
-    private void consumeResponse() {
-        hasStoppedResponse = false;
-        if (!queuedResponses.isEmpty()) {
-            DukeResponse nextResponse = queuedResponses.poll();
-            PauseTransition pause = new PauseTransition(Duration.millis(500));
-            pause.setOnFinished(event -> {
-                getDialogGroup(false).getChildren().add(nextResponse.createDialogBox());
-                incrementAndClearExcessDialogBubbles();
-                consumeResponse();
-            });
-            pause.play();
-        } else {
-            hasStoppedResponse = true;
-        }
+    /**
+     * Changes how the responses of Duke are paced
+     * @param pacingPolicy the policy to pace the responses with
+     */
+    public void setPacingPolicy(ResponseScheduler.PacingPolicy pacingPolicy) {
+        responseScheduler.setPacingPolicy(pacingPolicy);
     }
 
-    private VBox getDialogGroup(boolean isCurrentDialogFromUser) {
-        if (isCurrentDialogFromUser ^ wasUserDialogPreviously) {
-            if (isCurrentDialogFromUser) {
-                groupedDialogBubbles = new DialogBubbleGroup(5,
-                        duke.getUser().getUserImage(), dialogContainer);
-            } else {
-                groupedDialogBubbles = new DialogBubbleGroup(5, dialogContainer);
-            }
-        }
+    public ResponseScheduler getResponseScheduler() {
+        return responseScheduler;
+    }
 
-        wasUserDialogPreviously = isCurrentDialogFromUser;
-        return groupedDialogBubbles.getDialogBubbleContainer();
+    private void renderResponses(List<DukeResponse> responses) {
+        for (DukeResponse response : responses) {
+            appendToTranscript(User.DUKE, response);
+        }
+        transcript.scrollTo(transcript.getItems().size() - 1);
     }
 
-    private void incrementAndClearExcessDialogBubbles() {
-        numberOfBubbles++;
-        if (numberOfBubbles > 60) {
-            if (dialogContainer.getChildren().size() == 1) {
-                groupedDialogBubbles.getDialogBubbleContainer().getChildren().remove(0);
-            } else {
-                DialogBubbleGroup firstGroup = (DialogBubbleGroup) dialogContainer.getChildren().get(0);
-                VBox firstGroupDialogContainer = firstGroup.getDialogBubbleContainer();
-                if (firstGroupDialogContainer.getChildren().size() > 1) {
-                    firstGroupDialogContainer.getChildren().remove(0);
-                } else {
-                    dialogContainer.getChildren().remove(0);
-                }
-            }
-            numberOfBubbles--;
+    /**
+     * Adds a message to the end of the transcript, grouping it with the previous messages
+     * if they were sent by the same speaker
+     * @param speaker the speaker of the message
+     * @param message the message to add
+     */
+    private void appendToTranscript(User speaker, DukeResponse message) {
+        ObservableList<TranscriptGroup> groups = transcript.getItems();
+        int lastIndex = groups.size() - 1;
+
+        if (lastIndex >= 0 && groups.get(lastIndex).canAdd(speaker)) {
+            TranscriptGroup lastGroup = groups.get(lastIndex);
+            lastGroup.add(message);
+            // replacing the group with itself lets the cell showing it add the new message
+            groups.set(lastIndex, lastGroup);
+        } else {
+            groups.add(new TranscriptGroup(speaker, message));
         }
     }
 }
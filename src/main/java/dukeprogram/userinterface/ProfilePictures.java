@@ -0,0 +1,113 @@
+package dukeprogram.userinterface;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import dukeprogram.storage.SaveManager;
+import javafx.scene.image.Image;
+
+/**
+ * ProfilePictures loads the pictures shown beside the chat bubbles of Duke and the user.
+ * Each picture is decoded in the background, directly at the size it is displayed at, and is only
+ * loaded once. A picture that is still loading is shown as soon as it has been decoded.
+ */
+public class ProfilePictures {
+
+    /** The width and height that profile pictures are displayed at */
+    public static final double DISPLAY_SIZE = 50;
+
+    private static final Map<ImageType, Image> LOADED_IMAGES = new EnumMap<>(ImageType.class);
+    private static final ExecutorService COPIER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "profile-picture-copier");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * A description of all images that can be loaded
+     */
+    public enum ImageType {
+        DukeImage("Duke.png", "/images/DaDuke.png"),
+        UserImage("User.png", "/images/DaUser.png");
+
+        public final String label;
+        public final String defaultResource;
+
+        ImageType(String label, String defaultResource) {
+            this.label = label;
+            this.defaultResource = defaultResource;
+        }
+
+        private InputStream openDefault() {
+            return Objects.requireNonNull(ProfilePictures.class.getResourceAsStream(defaultResource));
+        }
+
+        private String getDefaultUrl() {
+            return Objects.requireNonNull(ProfilePictures.class.getResource(defaultResource)).toExternalForm();
+        }
+    }
+
+    /**
+     * Starts loading every profile picture in the background, so that they are ready by the time
+     * the first chat bubbles are shown
+     */
+    public static void preload() {
+        for (ImageType imageType : ImageType.values()) {
+            load(imageType);
+        }
+    }
+
+    /**
+     * Retrieves a profile picture from the profile pictures directory. If it does not exist,
+     * the default picture is used instead, and copied into the directory in the background.
+     * The picture returned may still be loading.
+     * @param imageType the supported Image type to load
+     * @return the image of the given type
+     */
+    public static Image load(ImageType imageType) {
+        return LOADED_IMAGES.computeIfAbsent(imageType, ProfilePictures::read);
+    }
+
+    private static Image read(ImageType imageType) {
+        File imageFile = new File(SaveManager.getProfilePicturesDirectory(), imageType.label);
+
+        if (!imageFile.exists()) {
+            COPIER.execute(() -> copyDefault(imageType, imageFile));
+            return decode(imageType.getDefaultUrl());
+        }
+
+        Image image = decode(imageFile.toURI().toString());
+        if (image.isError()) {
+            // the image failed before the listener below could be added, such as for an unknown URL
+            System.out.println(image.getException().getMessage());
+            return decode(imageType.getDefaultUrl());
+        }
+        image.errorProperty().addListener((observable, wasError, isError) -> {
+            if (isError) {
+                System.out.println(image.getException().getMessage());
+                // later bubbles show the default picture instead of the broken one
+                LOADED_IMAGES.put(imageType, decode(imageType.getDefaultUrl()));
+            }
+        });
+        return image;
+    }
+
+    private static Image decode(String url) {
+        return new Image(url, DISPLAY_SIZE, DISPLAY_SIZE, true, true, true);
+    }
+
+    private static void copyDefault(ImageType imageType, File imageFile) {
+        try (InputStream defaultImage = imageType.openDefault()) {
+            Files.copy(defaultImage, imageFile.toPath());
+        } catch (IOException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+}
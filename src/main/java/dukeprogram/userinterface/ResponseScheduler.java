@@ -0,0 +1,250 @@
+package dukeprogram.userinterface;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javafx.animation.PauseTransition;
+import javafx.util.Duration;
+
+/**
+ * ResponseScheduler paces the responses of Duke as they are rendered, so that each response appears
+ * after a short pause as if Duke was typing. When the responses arrive faster than they are paced,
+ * the pauses are shortened for the rest of the burst, and a deep queue is rendered all at once in a single frame.
+ * It also keeps track of how deep the queue gets, and how long each response waited to be rendered.
+ */
+public class ResponseScheduler {
+
+    private static final double FIXED_DELAY_MILLIS = 500;
+    private static final double MIN_ADAPTIVE_DELAY_MILLIS = 50;
+    private static final int COALESCING_QUEUE_DEPTH = 8;
+
+    /**
+     * PacingPolicies dictate how long to pause before rendering each response
+     */
+    public enum PacingPolicy {
+        /** Pauses for the same time before every response */
+        Fixed,
+        /** Shortens the pause the deeper the queue gets in a burst, and renders a deep queue all at once */
+        Adaptive,
+        /** Renders every response as soon as it is sent */
+        Instant
+    }
+
+    /**
+     * A Pause waits for some time before running an action, and can be stopped before it does
+     */
+    public interface Pause {
+        /**
+         * Waits for the given time, replacing any wait in progress, and then runs the action
+         * @param millis the time to wait for, in milliseconds
+         * @param onFinished the action to run once the time has passed
+         */
+        void play(double millis, Runnable onFinished);
+
+        /**
+         * Stops the wait in progress, without running its action
+         */
+        void stop();
+    }
+
+    /**
+     * Pauses on the JavaFX application thread with a PauseTransition
+     */
+    private static class TransitionPause implements Pause {
+        private final PauseTransition transition = new PauseTransition();
+
+        @Override
+        public void play(double millis, Runnable onFinished) {
+            transition.setOnFinished(event -> onFinished.run());
+            transition.setDuration(Duration.millis(millis));
+            transition.playFromStart();
+        }
+
+        @Override
+        public void stop() {
+            transition.stop();
+        }
+    }
+
+    /**
+     * A response waiting in the queue, along with the time it was sent
+     */
+    private static class QueuedResponse {
+        private final DukeResponse response;
+        private final long queuedTime;
+
+        private QueuedResponse(DukeResponse response, long queuedTime) {
+            this.response = response;
+            this.queuedTime = queuedTime;
+        }
+    }
+
+    private final Consumer<List<DukeResponse>> renderer;
+    private final ArrayDeque<QueuedResponse> queuedResponses = new ArrayDeque<>();
+    private final Pause pause;
+
+    private PacingPolicy pacingPolicy = PacingPolicy.Adaptive;
+    private boolean isPaused = false;
+    private int burstQueueDepth = 0;
+
+    private int maxQueueDepth = 0;
+    private long numberOfFrames = 0;
+    private long numberOfRenderedResponses = 0;
+    private long totalRenderLagNanos = 0;
+    private long maxRenderLagNanos = 0;
+
+    /**
+     * Creates a ResponseScheduler that pauses on the JavaFX application thread
+     * @param renderer renders every response of a frame, in the order they were sent
+     */
+    public ResponseScheduler(Consumer<List<DukeResponse>> renderer) {
+        this(renderer, new TransitionPause());
+    }
+
+    /**
+     * Creates a ResponseScheduler
+     * @param renderer renders every response of a frame, in the order they were sent
+     * @param pause the pause to wait with before each frame, which must finish on the thread that submits responses
+     */
+    public ResponseScheduler(Consumer<List<DukeResponse>> renderer, Pause pause) {
+        this.renderer = renderer;
+        this.pause = pause;
+    }
+
+    /**
+     * Queues a response to be rendered. This must be called on the JavaFX application thread.
+     * @param response the response to render
+     */
+    public void submit(DukeResponse response) {
+        queuedResponses.addLast(new QueuedResponse(response, System.nanoTime()));
+        burstQueueDepth = Math.max(burstQueueDepth, queuedResponses.size());
+        maxQueueDepth = Math.max(maxQueueDepth, burstQueueDepth);
+
+        if (pacingPolicy == PacingPolicy.Instant) {
+            renderFrame();
+            burstQueueDepth = 0;
+        } else if (!isPaused) {
+            scheduleNextFrame();
+        }
+    }
+
+    /**
+     * Changes how the responses are paced. Any responses still waiting are rendered at once
+     * if the new policy is instant.
+     * @param pacingPolicy the policy to pace the responses with
+     */
+    public void setPacingPolicy(PacingPolicy pacingPolicy) {
+        this.pacingPolicy = pacingPolicy;
+        if (pacingPolicy == PacingPolicy.Instant && isPaused) {
+            pause.stop();
+            isPaused = false;
+            renderFrame();
+            burstQueueDepth = 0;
+        }
+    }
+
+    private void scheduleNextFrame() {
+        if (queuedResponses.isEmpty()) {
+            burstQueueDepth = 0;
+            return;
+        }
+
+        isPaused = true;
+        pause.play(computeDelayMillis(), () -> {
+            isPaused = false;
+            renderFrame();
+            scheduleNextFrame();
+        });
+    }
+
+    private double computeDelayMillis() {
+        switch (pacingPolicy) {
+        case Fixed:
+            return FIXED_DELAY_MILLIS;
+
+        case Adaptive:
+            return Math.max(FIXED_DELAY_MILLIS / burstQueueDepth, MIN_ADAPTIVE_DELAY_MILLIS);
+
+        default:
+            return 0;
+        }
+    }
+
+    private int computeFrameSize() {
+        switch (pacingPolicy) {
+        case Fixed:
+            return 1;
+
+        case Adaptive:
+            return queuedResponses.size() >= COALESCING_QUEUE_DEPTH ? queuedResponses.size() : 1;
+
+        default:
+            return queuedResponses.size();
+        }
+    }
+
+    private void renderFrame() {
+        int frameSize = computeFrameSize();
+        if (frameSize == 0) {
+            return;
+        }
+
+        long renderTime = System.nanoTime();
+        List<DukeResponse> frame = new ArrayList<>(frameSize);
+        for (int i = 0; i < frameSize; i++) {
+            QueuedResponse queuedResponse = queuedResponses.poll();
+            long renderLagNanos = renderTime - queuedResponse.queuedTime;
+            totalRenderLagNanos += renderLagNanos;
+            maxRenderLagNanos = Math.max(maxRenderLagNanos, renderLagNanos);
+            frame.add(queuedResponse.response);
+        }
+
+        numberOfFrames++;
+        numberOfRenderedResponses += frameSize;
+        renderer.accept(frame);
+    }
+
+    public int getQueueDepth() {
+        return queuedResponses.size();
+    }
+
+    public int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    public long getNumberOfFrames() {
+        return numberOfFrames;
+    }
+
+    public long getNumberOfRenderedResponses() {
+        return numberOfRenderedResponses;
+    }
+
+    /**
+     * Retrieves the average time the rendered responses waited in the queue
+     * @return the average render lag in milliseconds
+     */
+    public double getAverageRenderLagMillis() {
+        return numberOfRenderedResponses == 0
+                ? 0
+                : totalRenderLagNanos / 1_000_000.0 / numberOfRenderedResponses;
+    }
+
+    public double getMaxRenderLagMillis() {
+        return maxRenderLagNanos / 1_000_000.0;
+    }
+
+    /**
+     * Summarises the metrics of this scheduler
+     * @return a line describing the queue depth and render lag of the responses
+     */
+    @Override
+    public String toString() {
+        return String.format("Rendered %d responses in %d frames (%s pacing), max queue depth %d, "
+                        + "render lag avg %.1f ms, max %.1f ms",
+                numberOfRenderedResponses, numberOfFrames, pacingPolicy, maxQueueDepth,
+                getAverageRenderLagMillis(), getMaxRenderLagMillis());
+    }
+}
@@ -0,0 +1,14 @@
+package dukeprogram.userinterface;
+
+/**
+ * A ResponseSink renders the responses of a Duke instance, for instance as chat bubbles
+ * in the GUI or as lines of text in a console
+ */
+public interface ResponseSink {
+
+    /**
+     * Renders a response from Duke
+     * @param response the response to render
+     */
+    void send(DukeResponse response);
+}
@@ -0,0 +1,24 @@
+package dukeprogram.userinterface;
+
+import java.io.PrintStream;
+
+/**
+ * TextResponseSink renders the responses of Duke as plain text
+ */
+public class TextResponseSink implements ResponseSink {
+
+    private final PrintStream output;
+
+    /**
+     * Creates a TextResponseSink
+     * @param output the stream to print the responses to
+     */
+    public TextResponseSink(PrintStream output) {
+        this.output = output;
+    }
+
+    @Override
+    public void send(DukeResponse response) {
+        output.println("Duke: " + response);
+    }
+}
@@ -0,0 +1,67 @@
+package dukeprogram.userinterface;
+
+import java.util.List;
+
+import javafx.geometry.Pos;
+import javafx.scene.control.ListCell;
+
+/**
+ * TranscriptCell renders a TranscriptGroup of the transcript as a DialogBubbleGroup.
+ * The ListView only creates as many cells as can be seen, and reuses them as the transcript is scrolled.
+ * When the group shown by the cell grows, only the new messages are added to it.
+ */
+public class TranscriptCell extends ListCell<TranscriptGroup> {
+
+    private DialogBubbleGroup dialogBubbleGroup;
+    private TranscriptGroup renderedGroup;
+    private int numberOfRenderedMessages;
+
+    /**
+     * Creates a TranscriptCell
+     */
+    public TranscriptCell() {
+        // lets the cell shrink to the width of the list, instead of the width of its widest bubble
+        setPrefWidth(0);
+    }
+
+    @Override
+    protected boolean isItemChanged(TranscriptGroup oldGroup, TranscriptGroup newGroup) {
+        return oldGroup != newGroup
+                || (newGroup == renderedGroup && newGroup.getMessages().size() != numberOfRenderedMessages);
+    }
+
+    @Override
+    protected void updateItem(TranscriptGroup group, boolean isEmpty) {
+        super.updateItem(group, isEmpty);
+
+        if (dialogBubbleGroup != null && (isEmpty || group != renderedGroup)) {
+            dialogBubbleGroup.stopAnimating();
+        }
+
+        if (isEmpty || group == null) {
+            renderedGroup = null;
+            dialogBubbleGroup = null;
+            setGraphic(null);
+            return;
+        }
+
+        if (group != renderedGroup) {
+            renderedGroup = group;
+            numberOfRenderedMessages = 0;
+            dialogBubbleGroup = group.isFromDuke()
+                    ? new DialogBubbleGroup(5)
+                    : new DialogBubbleGroup(5, ProfilePictures.load(ProfilePictures.ImageType.UserImage));
+            setAlignment(group.isFromDuke() ? Pos.BOTTOM_LEFT : Pos.BOTTOM_RIGHT);
+            setGraphic(dialogBubbleGroup);
+        }
+
+        List<DukeResponse> messages = group.getMessages();
+        for (int i = numberOfRenderedMessages; i < messages.size(); i++) {
+            boolean isAnimated = group.showForFirstTime(i);
+            dialogBubbleGroup.getDialogBubbleContainer().getChildren().add(group.isFromDuke()
+                    ? DialogBox.ofDuke(messages.get(i), isAnimated)
+                    : DialogBox.ofUser(messages.get(i), group.getSpeaker(), isAnimated));
+        }
+        numberOfRenderedMessages = messages.size();
+    }
+}
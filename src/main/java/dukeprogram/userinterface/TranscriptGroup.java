@@ -0,0 +1,72 @@
+package dukeprogram.userinterface;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import dukeprogram.facilities.User;
+
+/**
+ * TranscriptGroup is the model of consecutive messages sent by the same speaker,
+ * which are shown together in a single DialogBubbleGroup of the transcript.
+ * No nodes are kept here, so that any number of messages can be held in the transcript.
+ */
+public class TranscriptGroup {
+
+    private static final int MAX_MESSAGES = 10;
+
+    private final User speaker;
+    private final List<DukeResponse> messages = new ArrayList<>();
+    private int numberOfShownMessages = 0;
+
+    /**
+     * Creates a TranscriptGroup starting with the given message
+     * @param speaker the speaker of every message in this group
+     * @param firstMessage the first message of this group
+     */
+    public TranscriptGroup(User speaker, DukeResponse firstMessage) {
+        this.speaker = speaker;
+        messages.add(firstMessage);
+    }
+
+    /**
+     * Checks if a message from the speaker can be added to the end of this group
+     * @param speaker the speaker of the message
+     * @return whether the message can be added
+     */
+    public boolean canAdd(User speaker) {
+        return this.speaker.equals(speaker) && messages.size() < MAX_MESSAGES;
+    }
+
+    /**
+     * Adds a message to the end of this group
+     * @param message the message to add
+     */
+    public void add(DukeResponse message) {
+        messages.add(message);
+    }
+
+    public User getSpeaker() {
+        return speaker;
+    }
+
+    public boolean isFromDuke() {
+        return speaker.equals(User.DUKE);
+    }
+
+    public List<DukeResponse> getMessages() {
+        return messages;
+    }
+
+    /**
+     * Checks if the message at the index has not been shown before, and marks it as shown
+     * @param index the index of the message in this group
+     * @return whether this is the first time the message is shown
+     */
+    public boolean showForFirstTime(int index) {
+        if (index < numberOfShownMessages) {
+            return false;
+        }
+        numberOfShownMessages = index + 1;
+        return true;
+    }
+}
@@ -1,52 +1,76 @@
 package dukeprogram.userinterface;
 
-import java.io.IOException;
-import java.util.Collection;
 import java.util.List;
 
-import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.control.Label;
+import javafx.collections.FXCollections;
+import javafx.geometry.Pos;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 
 
 /**
- * A Widget that is optionally nested in a Dialog Box, showing additional information
+ * A Widget that is optionally nested in a Dialog Box, showing additional information.
+ * A few elements are all shown at once, but many elements are shown in a scrolling list
+ * of a fixed height, which only creates the nodes of the elements that can be seen.
  */
 public class Widget extends VBox {
 
-    @FXML
-    private Label titleLabel;
-
-    @FXML
-    private Label descriptionLabel;
-
+    private static final int MAX_ELEMENTS_SHOWN_AT_ONCE = 10;
+    private static final double SCROLLING_LIST_HEIGHT = 320;
 
     /**
-     * Creates a widget
-     * @param elements the elements to embed inside the widget
+     * Shows an element of a scrolling widget, creating its node only when it can be seen
      */
-    public Widget(Region... elements) {
-        this(List.of(elements));
+    private static class WidgetElementCell extends ListCell<WidgetElement> {
+        private WidgetElement renderedElement;
+
+        private WidgetElementCell() {
+            setPrefWidth(0);
+        }
+
+        @Override
+        protected void updateItem(WidgetElement element, boolean isEmpty) {
+            super.updateItem(element, isEmpty);
+
+            if (isEmpty || element == null) {
+                renderedElement = null;
+                setGraphic(null);
+            } else if (element != renderedElement) {
+                renderedElement = element;
+                Region node = element.createNode();
+                node.setMaxWidth(Double.MAX_VALUE);
+                setGraphic(node);
+            }
+        }
     }
 
     /**
      * Creates a widget
      * @param elements the elements to embed inside the widget
      */
-    public Widget(Collection<Region> elements) {
-        try {
-            FXMLLoader fxmlLoader = new FXMLLoader(MainWindow.class.getResource("/view/Widget.fxml"));
-            fxmlLoader.setController(this);
-            fxmlLoader.setRoot(this);
-            fxmlLoader.load();
-        } catch (IOException e) {
-            e.printStackTrace();
+    public Widget(List<? extends WidgetElement> elements) {
+        super(5);
+        setAlignment(Pos.CENTER);
+        setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
+        setPrefWidth(400);
+        setFillWidth(true);
+
+        if (elements.size() <= MAX_ELEMENTS_SHOWN_AT_ONCE) {
+            for (WidgetElement element : elements) {
+                Region node = element.createNode();
+                node.setMaxWidth(Double.MAX_VALUE);
+                getChildren().add(node);
+            }
+            return;
         }
 
-        setFillWidth(true);
-        elements.forEach(e -> e.setMaxWidth(Double.MAX_VALUE));
-        getChildren().addAll(elements);
+        ListView<WidgetElement> scrollingList = new ListView<>(FXCollections.observableArrayList(elements));
+        scrollingList.getStyleClass().add("widget-list");
+        scrollingList.setFocusTraversable(false);
+        scrollingList.setPrefHeight(SCROLLING_LIST_HEIGHT);
+        scrollingList.setCellFactory(listView -> new WidgetElementCell());
+        getChildren().add(scrollingList);
     }
 }
@@ -0,0 +1,37 @@
+package dukeprogram.userinterface;
+
+import utilities.Money;
+
+/**
+ * A WidgetAmount shows an amount of money under a label, such as a total of the loans,
+ * in the same way as a loan is shown, without being a loan itself
+ */
+public class WidgetAmount implements WidgetElement {
+
+    private final String label;
+    private final long cents;
+
+    /**
+     * Creates a WidgetAmount
+     * @param label the label of the amount
+     * @param cents the signed amount of money, in cents, which is positive if it is owed
+     */
+    public WidgetAmount(String label, long cents) {
+        this.label = label;
+        this.cents = cents;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("> %s\n\t\t| \t%s $%s", label, cents > 0 ? "Owed" : "Lent", Money.format(Math.abs(cents)));
+    }
+
+    /**
+     * Creates a WidgetLoanLabel for use in the dialog bubbles
+     * @return a widget loan label
+     */
+    @Override
+    public WidgetLoanLabel createNode() {
+        return new WidgetLoanLabel(label, cents);
+    }
+}
@@ -17,14 +17,7 @@ public class WidgetButton extends Button {
      */
     public WidgetButton(String label, EventHandler<ActionEvent> eventHandler) {
         super(label);
-        getStyleClass().add("header");
-
-        String styleDefault = "-fx-background-color: #FF1493; -fx-background-radius: 5px;";
-        String styleHover = "-fx-background-color: #FF69B4; -fx-background-radius: 5px;";
-
-        setStyle(styleDefault);
-        setOnMouseEntered(e -> setStyle(styleHover));
-        setOnMouseExited(e -> setStyle(styleDefault));
+        getStyleClass().addAll(TextStyle.Header.label, "widget-button");
 
         setMinHeight(40);
         setOnAction(eventHandler);
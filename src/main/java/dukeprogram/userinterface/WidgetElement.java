@@ -0,0 +1,17 @@
+package dukeprogram.userinterface;
+
+import javafx.scene.layout.Region;
+
+/**
+ * A WidgetElement is a piece of additional information to be shown in a widget of a response.
+ * It is only turned into a JavaFX node when the response is rendered in the GUI, and otherwise
+ * describes itself in plain text with its toString method.
+ */
+public interface WidgetElement {
+
+    /**
+     * Creates the JavaFX node that displays this element within a widget
+     * @return the node displaying this element
+     */
+    Region createNode();
+}
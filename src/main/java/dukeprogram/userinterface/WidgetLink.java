@@ -0,0 +1,33 @@
+package dukeprogram.userinterface;
+
+import dukeprogram.Main;
+import javafx.scene.layout.Region;
+
+/**
+ * A WidgetLink is an element of a widget that opens a web page when it is clicked
+ */
+public class WidgetLink implements WidgetElement {
+
+    private final String label;
+    private final String url;
+
+    /**
+     * Creates a WidgetLink
+     * @param label the label of the link
+     * @param url the address of the web page to open
+     */
+    public WidgetLink(String label, String url) {
+        this.label = label;
+        this.url = url;
+    }
+
+    @Override
+    public Region createNode() {
+        return new WidgetButton(label, e -> Main.getPrimaryHostService().showDocument(url));
+    }
+
+    @Override
+    public String toString() {
+        return label + ": " + url;
+    }
+}
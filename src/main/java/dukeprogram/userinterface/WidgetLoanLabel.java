@@ -1,35 +1,53 @@
 package dukeprogram.userinterface;
 
-import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Label;
-import javafx.scene.layout.Background;
-import javafx.scene.layout.BackgroundFill;
-import javafx.scene.layout.CornerRadii;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
-import javafx.scene.paint.Color;
+import utilities.Money;
 
 /**
- * WidgetLabel defines a label for a task that is to be fitted into a widget
+ * WidgetLoanLabel defines a label for a loan, or any other amount of money, that is to be fitted into a widget.
+ * It shows a name, whether the amount is owed, lent, cleared or transferred, and the amount itself,
+ * coloured by the loan-standing style classes in ElementStyle.css.
  */
 public class WidgetLoanLabel extends HBox {
 
+    private static final String LOAN_NAME_STYLE = "loan-name";
+    private static final String LOAN_STANDING_STYLE = "loan-standing";
+    private static final String OWED_STYLE = "owed";
+    private static final String LENT_STYLE = "lent";
+    private static final String CLEARED_STYLE = "cleared";
+    private static final String TRANSFER_STYLE = "transfer";
+
     /**
      * Creates a new WidgetLoanLabel
      * @param creditorName the name of the creditor
-     * @param amountOwed the signed amount of money owed
+     * @param centsOwed the signed amount of money owed, in cents
+     */
+    public WidgetLoanLabel(String creditorName, long centsOwed) {
+        this(creditorName, centsOwed, createStandingLabel(centsOwed));
+    }
+
+    /**
+     * Creates a new WidgetLoanLabel for a transfer of money, which is neither owed nor lent by the user
+     * @param description the description of the transfer, such as who pays whom
+     * @param cents the amount of money transferred, in cents
+     * @return a widget loan label standing as a transfer
      */
-    public WidgetLoanLabel(String creditorName, double amountOwed) {
+    public static WidgetLoanLabel createTransferLabel(String description, long cents) {
+        return new WidgetLoanLabel(description, cents, createStandingLabel("Transfer", TRANSFER_STYLE));
+    }
+
+    private WidgetLoanLabel(String creditorName, long centsOwed, Label standing) {
         super();
         setAlignment(Pos.CENTER_LEFT);
         setSpacing(5);
         setFillHeight(true);
 
         Label nameLabel = createNameLabel(creditorName);
-        Label standing = creatingStandingLabel(amountOwed);
-        Label amountLabel = createAmountLabel(amountOwed);
+        Label amountLabel = createAmountLabel(centsOwed);
 
         Region spaceBetweenNameAndStanding = new Region();
 
@@ -40,54 +58,36 @@ public class WidgetLoanLabel extends HBox {
 
     private Label createNameLabel(String creditorName) {
         Label nameLabel = new Label(creditorName);
-        nameLabel.setBackground(new Background(new BackgroundFill(
-                Color.DARKVIOLET,
-                new CornerRadii(5),
-                Insets.EMPTY
-        )));
-        nameLabel.setPadding(new Insets(5, 15, 5, 15));
         nameLabel.setAlignment(Pos.CENTER_LEFT);
-        nameLabel.getStyleClass().add(TextStyle.Header.label);
+        nameLabel.getStyleClass().addAll(TextStyle.Header.label, LOAN_NAME_STYLE);
         nameLabel.setWrapText(true);
         nameLabel.setMaxHeight(Double.MAX_VALUE);
         return nameLabel;
     }
 
-    private Label createAmountLabel(double amountOwed) {
-        Label amountLabel = new Label(String.format("$%.2f", Math.abs(amountOwed)));
+    private Label createAmountLabel(long centsOwed) {
+        Label amountLabel = new Label("$" + Money.format(Math.abs(centsOwed)));
         amountLabel.setMinWidth(80);
         amountLabel.setAlignment(Pos.CENTER_LEFT);
         amountLabel.getStyleClass().add(TextStyle.Header.label);
         return amountLabel;
     }
 
-    private Label creatingStandingLabel(double amountOwed) {
-        Label standing;
-        if (amountOwed > 0) {
-            standing = new Label("Owed");
-            standing.setBackground(new Background(new BackgroundFill(
-                    Color.RED,
-                    new CornerRadii(5),
-                    Insets.EMPTY
-            )));
-        } else if (amountOwed < 0) {
-            standing = new Label("Lent");
-            standing.setBackground(new Background(new BackgroundFill(
-                    Color.GREEN,
-                    new CornerRadii(5),
-                    Insets.EMPTY
-            )));
+    private static Label createStandingLabel(long centsOwed) {
+        if (centsOwed > 0) {
+            return createStandingLabel("Owed", OWED_STYLE);
+        } else if (centsOwed < 0) {
+            return createStandingLabel("Lent", LENT_STYLE);
         } else {
-            standing = new Label("Cleared");
-            standing.setBackground(new Background(new BackgroundFill(
-                    Color.GREY,
-                    new CornerRadii(5),
-                    Insets.EMPTY
-            )));
+            return createStandingLabel("Cleared", CLEARED_STYLE);
         }
+    }
+
+    private static Label createStandingLabel(String text, String style) {
+        Label standing = new Label(text);
+        standing.getStyleClass().add(style);
         standing.setAlignment(Pos.CENTER);
-        standing.setPadding(new Insets(5, 5, 5, 5));
-        standing.getStyleClass().add("tag");
+        standing.getStyleClass().addAll(TextStyle.Tag.label, LOAN_STANDING_STYLE);
         standing.setMinWidth(50);
         return standing;
     }
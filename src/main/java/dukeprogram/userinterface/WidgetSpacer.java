@@ -0,0 +1,31 @@
+package dukeprogram.userinterface;
+
+import javafx.scene.layout.Region;
+
+/**
+ * A WidgetSpacer is an empty element that separates the elements of a widget
+ */
+public class WidgetSpacer implements WidgetElement {
+
+    private final double height;
+
+    /**
+     * Creates a WidgetSpacer
+     * @param height the height of the space
+     */
+    public WidgetSpacer(double height) {
+        this.height = height;
+    }
+
+    @Override
+    public Region createNode() {
+        Region space = new Region();
+        space.setMinHeight(height);
+        return space;
+    }
+
+    @Override
+    public String toString() {
+        return "";
+    }
+}
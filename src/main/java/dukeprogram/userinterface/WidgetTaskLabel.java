@@ -1,23 +1,24 @@
 package dukeprogram.userinterface;
 
-import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.CheckBox;
 import javafx.scene.control.Label;
-import javafx.scene.layout.Background;
-import javafx.scene.layout.BackgroundFill;
-import javafx.scene.layout.CornerRadii;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
-import javafx.scene.paint.Color;
 import javafx.scene.text.TextAlignment;
 
 /**
- * WidgetLabel defines a label for a task that is to be fitted into a widget
+ * WidgetLabel defines a label for a task that is to be fitted into a widget.
+ * Its looks are defined by the task-label style classes in ElementStyle.css, so that every task label shares them.
  */
 public class WidgetTaskLabel extends HBox {
 
+    private static final String TASK_LABEL_STYLE = "task-label";
+    private static final String TASK_NAME_STYLE = "task-name";
+    private static final String TASK_TYPE_STYLE = "task-type";
+    private static final String TASK_INFO_STYLE = "task-info";
+
     private final VBox taskInfoBox;
 
     /**
@@ -30,22 +31,14 @@ public class WidgetTaskLabel extends HBox {
         super();
         setSpacing(5);
         setFillHeight(true);
-        Label typeLabel = createTaskInfoLabel(taskType, TextStyle.Header, Color.HOTPINK);
+        getStyleClass().add(TASK_LABEL_STYLE);
+        Label typeLabel = createTaskInfoLabel(taskType, TextStyle.Header, TASK_TYPE_STYLE);
 
         taskInfoBox = new VBox(3);
         Label taskLabel = createTaskNameLabel(taskName, style);
-
-        this.setPadding(new Insets(5, 5, 5, 5));
-        this.setBackground(new Background(new BackgroundFill(
-                Color.DARKVIOLET,
-                new CornerRadii(5),
-                Insets.EMPTY
-        )));
-        this.setStyle("-fx-border-width: 0 0 1 0; -fx-border-radius: 5; -fx-border-color: #002654;");
         taskInfoBox.getChildren().add(typeLabel);
 
         CheckBox checkBox = new CheckBox();
-        checkBox.getStylesheets().add("css/CheckBox.css");
         checkBox.setDisable(true);
         checkBox.disarm();
         checkBox.setSelected(isComplete);
@@ -56,32 +49,25 @@ public class WidgetTaskLabel extends HBox {
 
     private static Label createTaskNameLabel(String taskName, TextStyle style) {
         Label taskLabel = new Label(taskName);
-        taskLabel.getStyleClass().add(style.label);
+        taskLabel.getStyleClass().addAll(style.label, TASK_NAME_STYLE);
         taskLabel.setWrapText(true);
         taskLabel.setMaxWidth(Double.MAX_VALUE);
         taskLabel.setAlignment(Pos.CENTER_LEFT);
         taskLabel.setMaxHeight(Double.MAX_VALUE);
-        taskLabel.setPadding(new Insets(5, 10, 5, 10));
         return taskLabel;
     }
 
-    private static Label createTaskInfoLabel(String infoString, TextStyle style, Color color) {
+    private static Label createTaskInfoLabel(String infoString, TextStyle style, String styleClass) {
         Label typeLabel = new Label(infoString);
-        typeLabel.getStyleClass().add(style.label);
+        typeLabel.getStyleClass().addAll(style.label, styleClass);
         typeLabel.setWrapText(true);
-        typeLabel.setPadding(new Insets(5, 10, 5, 10));
         typeLabel.setAlignment(Pos.CENTER);
         typeLabel.setTextAlignment(TextAlignment.CENTER);
         typeLabel.setMinWidth(120);
-        typeLabel.setBackground(new Background(new BackgroundFill(
-                color,
-                new CornerRadii(20),
-                Insets.EMPTY
-        )));
         return typeLabel;
     }
 
     public void addInfoLabel(String s) {
-        taskInfoBox.getChildren().addAll(createTaskInfoLabel(s, TextStyle.Tag, Color.DEEPPINK));
+        taskInfoBox.getChildren().addAll(createTaskInfoLabel(s, TextStyle.Tag, TASK_INFO_STYLE));
     }
 }
@@ -0,0 +1,83 @@
+package utilities;
+
+/**
+ * Money works with amounts of money held as a whole number of cents in a long, so that adding up
+ * amounts is exact and allocates nothing. Amounts are only turned into text for display.
+ */
+public class Money {
+
+    private static final int CENTS_PER_DOLLAR = 100;
+    private static final int MAX_DOLLAR_DIGITS = 15;
+
+    /**
+     * Parses an amount of money, such as "12", "-3.5" or "0.05", into cents
+     * @param amount the amount of money in dollars, with at most two decimal places
+     * @return the amount of money in cents
+     * @throws NumberFormatException if the amount is not a number with at most two decimal places
+     */
+    public static long parseCents(String amount) throws NumberFormatException {
+        int length = amount.length();
+        int i = 0;
+        boolean isNegative = false;
+        if (i < length && (amount.charAt(i) == '-' || amount.charAt(i) == '+')) {
+            isNegative = amount.charAt(i) == '-';
+            i++;
+        }
+
+        long dollars = 0;
+        int dollarDigits = 0;
+        while (i < length && Character.isDigit(amount.charAt(i))) {
+            dollars = dollars * 10 + (amount.charAt(i++) - '0');
+            dollarDigits++;
+        }
+
+        long cents = 0;
+        int centDigits = 0;
+        if (i < length && amount.charAt(i) == '.') {
+            i++;
+            while (i < length && Character.isDigit(amount.charAt(i))) {
+                cents = cents * 10 + (amount.charAt(i++) - '0');
+                centDigits++;
+            }
+        }
+
+        if (i != length || dollarDigits + centDigits == 0) {
+            throw new NumberFormatException(amount + " is not an amount of money");
+        }
+        if (dollarDigits > MAX_DOLLAR_DIGITS || centDigits > 2) {
+            throw new NumberFormatException(amount + " must be in dollars with at most two decimal places");
+        }
+
+        long totalCents = dollars * CENTS_PER_DOLLAR + (centDigits == 1 ? cents * 10 : cents);
+        return isNegative ? -totalCents : totalCents;
+    }
+
+    /**
+     * Converts an amount of money held in dollars as a double into cents, rounding to the nearest cent
+     * @param dollars the amount of money in dollars
+     * @return the amount of money in cents
+     */
+    public static long fromDollars(double dollars) {
+        return Math.round(dollars * CENTS_PER_DOLLAR);
+    }
+
+    /**
+     * Converts an amount of money into dollars, for display only
+     * @param cents the amount of money in cents
+     * @return the amount of money in dollars
+     */
+    public static double toDollars(long cents) {
+        return (double) cents / CENTS_PER_DOLLAR;
+    }
+
+    /**
+     * Formats an amount of money with two decimal places, such as "-3.50"
+     * @param cents the amount of money in cents
+     * @return the amount of money in dollars, as text
+     */
+    public static String format(long cents) {
+        long absoluteCents = Math.abs(cents);
+        long remainder = absoluteCents % CENTS_PER_DOLLAR;
+        return (cents < 0 ? "-" : "") + absoluteCents / CENTS_PER_DOLLAR + (remainder < 10 ? ".0" : ".") + remainder;
+    }
+}
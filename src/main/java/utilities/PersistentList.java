@@ -0,0 +1,282 @@
+package utilities;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * PersistentList is an immutable list, held as a balanced tree indexed by position.
+ * Every change returns a new list that shares all but one path of the tree with the old list,
+ * so a change costs O(log n) time and memory, and a list once handed out never changes.
+ * This lets a single writer publish lists that any number of readers can use without locks.
+ * @param <T> the type of the elements of the list
+ */
+public final class PersistentList<T> implements Iterable<T> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<T> root;
+
+    /**
+     * A node of the tree, which is never changed once created
+     */
+    private static final class Node<T> {
+        private final T value;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int size;
+        private final int height;
+
+        private Node(T value, Node<T> left, Node<T> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Retrieves the empty list
+     * @param <T> the type of the elements of the list
+     * @return the empty list
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Creates a list of the given elements, in O(n) time
+     * @param elements the elements of the list
+     * @param <T> the type of the elements of the list
+     * @return the list of the elements
+     */
+    public static <T> PersistentList<T> of(List<? extends T> elements) {
+        return new PersistentList<>(build(elements, 0, elements.size()));
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Retrieves an element
+     * @param index the index of the element
+     * @return the element at the index
+     * @throws IndexOutOfBoundsException if the index is not within the list
+     */
+    public T get(int index) throws IndexOutOfBoundsException {
+        checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Finds the first occurrence of an element, compared by identity
+     * @param element the element to find
+     * @return the index of the element, or -1 if it is not in the list
+     */
+    public int indexOf(T element) {
+        int index = 0;
+        for (T current : this) {
+            if (current == element) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Creates a list with an element added to the end
+     * @param element the element to add
+     * @return the new list
+     */
+    public PersistentList<T> add(T element) {
+        return insert(size(), element);
+    }
+
+    /**
+     * Creates a list with an element inserted
+     * @param index the index the element is to have
+     * @param element the element to insert
+     * @return the new list
+     * @throws IndexOutOfBoundsException if the index is not within the list or at its end
+     */
+    public PersistentList<T> insert(int index, T element) throws IndexOutOfBoundsException {
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Creates a list with an element replaced
+     * @param index the index of the element to replace
+     * @param element the element to replace it with
+     * @return the new list
+     * @throws IndexOutOfBoundsException if the index is not within the list
+     */
+    public PersistentList<T> set(int index, T element) throws IndexOutOfBoundsException {
+        checkIndex(index, size());
+        return new PersistentList<>(set(root, index, element));
+    }
+
+    /**
+     * Creates a list with an element removed
+     * @param index the index of the element to remove
+     * @return the new list
+     * @throws IndexOutOfBoundsException if the index is not within the list
+     */
+    public PersistentList<T> remove(int index) throws IndexOutOfBoundsException {
+        checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    /**
+     * Copies the elements of this list
+     * @return a mutable list of the elements, in order
+     */
+    public List<T> toList() {
+        List<T> elements = new ArrayList<>(size());
+        forEach(elements::add);
+        return elements;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node<T>> path = new ArrayDeque<>();
+            private Node<T> next = root;
+
+            @Override
+            public boolean hasNext() {
+                return next != null || !path.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                while (next != null) {
+                    path.push(next);
+                    next = next.left;
+                }
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+
+                Node<T> node = path.pop();
+                next = node.right;
+                return node.value;
+            }
+        };
+    }
+
+    private static void checkIndex(int index, int bound) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for length " + bound);
+        }
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static <T> Node<T> build(List<? extends T> elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(elements.get(middle), build(elements, from, middle), build(elements, middle + 1, to));
+    }
+
+    private static <T> Node<T> insert(Node<T> node, int index, T element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insert(node.left, index, element), node.right);
+        }
+        return balance(node.value, node.left, insert(node.right, index - leftSize - 1, element));
+    }
+
+    private static <T> Node<T> set(Node<T> node, int index, T element) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, set(node.left, index, element), node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.value, node.left, set(node.right, index - leftSize - 1, element));
+        }
+        return new Node<>(element, node.left, node.right);
+    }
+
+    private static <T> Node<T> remove(Node<T> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(node.value, remove(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+
+        Node<T> first = node.right;
+        while (first.left != null) {
+            first = first.left;
+        }
+        return balance(first.value, node.left, remove(node.right, 0));
+    }
+
+    /**
+     * Creates a node from its parts, rotating them if the heights of its subtrees differ by two
+     */
+    private static <T> Node<T> balance(T value, Node<T> left, Node<T> right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) < height(left.right)) {
+                left = rotateLeft(left.value, left.left, left.right);
+            }
+            return rotateRight(value, left, right);
+        } else if (height(right) > height(left) + 1) {
+            if (height(right.right) < height(right.left)) {
+                right = rotateRight(right.value, right.left, right.right);
+            }
+            return rotateLeft(value, left, right);
+        }
+        return new Node<>(value, left, right);
+    }
+
+    private static <T> Node<T> rotateRight(T value, Node<T> left, Node<T> right) {
+        return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+    }
+
+    private static <T> Node<T> rotateLeft(T value, Node<T> left, Node<T> right) {
+        return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+    }
+}
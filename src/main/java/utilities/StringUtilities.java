@@ -1,22 +1,51 @@
 package utilities;
 
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.stream.IntStream;
 
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
-import javafx.scene.text.TextBoundsType;
 
 /**
  * StringUtilities provides utilities for strings and collections containing strings
  */
 public class StringUtilities {
 
-    private static final Text HELPER = new Text();
-    private static final double DEFAULT_WRAPPING_WIDTH = HELPER.getWrappingWidth();
-    private static final double DEFAULT_LINE_SPACING = HELPER.getLineSpacing();
-    private static final String DEFAULT_TEXT = HELPER.getText();
-    private static final TextBoundsType DEFAULT_BOUNDS_TYPE = HELPER.getBoundsType();
+    /**
+     * Holds the Text node used to measure text, so that it is only created
+     * the first time text is measured, rather than whenever strings are manipulated.
+     * The widths measured are cached for the most recently used fonts.
+     */
+    private static class TextMeasurer {
+        private static final int MAX_CACHED_FONTS = 8;
+        private static final int MAX_CACHED_WIDTHS_PER_FONT = 512;
+
+        private static final Text HELPER = new Text();
+        private static final String DEFAULT_TEXT = HELPER.getText();
+
+        private static final Map<Font, TextWidthCache> CACHES = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Font, TextWidthCache> eldest) {
+                return size() > MAX_CACHED_FONTS;
+            }
+        };
+
+        private static synchronized double measure(Font font, String text) {
+            return CACHES.computeIfAbsent(font, f -> new TextWidthCache(
+                    s -> layOut(f, s), MAX_CACHED_WIDTHS_PER_FONT)).measure(text);
+        }
+
+        private static double layOut(Font font, String text) {
+            HELPER.setFont(font);
+            HELPER.setText(text);
+            double width = HELPER.getLayoutBounds().getWidth();
+            HELPER.setText(DEFAULT_TEXT);
+            return width;
+        }
+    }
 
     /**
      * Helper method to split a String array by a delimiter.
@@ -71,12 +100,41 @@ public class StringUtilities {
     }
 
     /**
-     * Concats an iterator into a single string separated by a delimiter for each element
+     * Normalizes a name so that names differing only in case or spacing are the same,
+     * by trimming it, collapsing every run of whitespace into a single space, and case folding it
+     * @param name the name to normalize
+     * @return the normalized name
+     */
+    public static String normalizeName(String name) {
+        StringBuilder normalized = new StringBuilder(name.length());
+        boolean isAfterWhitespace = false;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isWhitespace(c)) {
+                isAfterWhitespace = normalized.length() > 0;
+            } else {
+                if (isAfterWhitespace) {
+                    normalized.append(' ');
+                    isAfterWhitespace = false;
+                }
+                normalized.append(c);
+            }
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Concats an iterator into a single string separated by a delimiter for each element.
+     * The remaining text of a Tokenizer is taken directly from its input when the delimiter is a space.
      * @param iterator the iterator to concat
      * @param delimiter the delimiter between each element
      * @return the joined String
      */
     public static String concatByDelimiter(Iterator<String> iterator, String delimiter) {
+        if (iterator instanceof Tokenizer && delimiter.equals(" ")) {
+            return ((Tokenizer) iterator).remainder();
+        }
+
         StringBuilder sb = new StringBuilder();
 
         while (iterator.hasNext()) {
@@ -91,7 +149,8 @@ public class StringUtilities {
 
     /**
      * Copies the elements from the iterator up to the first instance of the
-     * given delimiter, returns the copied elements and throws away the delimiter
+     * given delimiter, returns the copied elements and throws away the delimiter.
+     * The text of a Tokenizer is taken directly from its input.
      * @param elements the iterator of elements to copy from
      * @param delimiter the delimiter to read up to
      * @return a concatenated string of copied elements excluding the first
@@ -102,6 +161,10 @@ public class StringUtilities {
             return "";
         }
 
+        if (elements instanceof Tokenizer) {
+            return ((Tokenizer) elements).copyUntil(delimiter);
+        }
+
         StringBuilder sb = new StringBuilder();
 
         String next = elements.next();
@@ -120,25 +183,14 @@ public class StringUtilities {
     }
 
     /**
-     * Calculates the width of a text font
+     * Calculates the width of a text font. Widths are cached per font, so recurring strings
+     * are measured without laying out any text.
      * @param font the font of the text
      * @param text the text in the text field
      * @param buffer the amount of width to add to the final width
-     * @return
+     * @return the width of the widest line of the text, rounded up, with the buffer added
      */
     public static double computeTextWidth(Font font, String text, double buffer) {
-        HELPER.setText(text);
-        HELPER.setFont(font);
-
-        HELPER.setWrappingWidth(0.0D);
-        HELPER.setLineSpacing(0.0D);
-        double d = Math.min(HELPER.prefWidth(-1.0D), 0);
-        HELPER.setWrappingWidth((int) Math.ceil(d));
-        d = Math.ceil(HELPER.getLayoutBounds().getWidth());
-
-        HELPER.setWrappingWidth(DEFAULT_WRAPPING_WIDTH);
-        HELPER.setLineSpacing(DEFAULT_LINE_SPACING);
-        HELPER.setText(DEFAULT_TEXT);
-        return d + buffer;
+        return Math.ceil(TextMeasurer.measure(font, text)) + buffer;
     }
 }
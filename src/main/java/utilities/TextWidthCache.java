@@ -0,0 +1,86 @@
+package utilities;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * TextWidthCache remembers the widths of text measured in a single font.
+ * The most recently measured strings are memoized, and the advance of every Latin-1 glyph is
+ * kept in a table, so that a new string made of those glyphs is measured by adding up their advances,
+ * without laying out the whole string. Any other string is measured by the given measurer.
+ */
+public class TextWidthCache {
+
+    private static final int GLYPH_TABLE_SIZE = 256;
+
+    private final ToDoubleFunction<String> measurer;
+    private final double[] glyphAdvances = new double[GLYPH_TABLE_SIZE];
+    private final Map<String, Double> widths;
+
+    /**
+     * Creates a TextWidthCache
+     * @param measurer measures the width of a string by laying it out
+     * @param capacity the number of strings to remember the widths of
+     */
+    public TextWidthCache(ToDoubleFunction<String> measurer, int capacity) {
+        this.measurer = measurer;
+        Arrays.fill(glyphAdvances, Double.NaN);
+        widths = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Double> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Retrieves the width of the text, which is the width of its widest line
+     * @param text the text to measure
+     * @return the width of the text
+     */
+    public synchronized double measure(String text) {
+        Double width = widths.get(text);
+        if (width == null) {
+            width = hasOnlyTabulatedGlyphs(text) ? addGlyphAdvances(text) : measurer.applyAsDouble(text);
+            widths.put(text, width);
+        }
+        return width;
+    }
+
+    public synchronized int getSize() {
+        return widths.size();
+    }
+
+    private static boolean hasOnlyTabulatedGlyphs(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= GLYPH_TABLE_SIZE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private double addGlyphAdvances(String text) {
+        double widestLine = 0;
+        double line = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char glyph = text.charAt(i);
+            if (glyph == '\n') {
+                widestLine = Math.max(widestLine, line);
+                line = 0;
+            } else {
+                line += getGlyphAdvance(glyph);
+            }
+        }
+        return Math.max(widestLine, line);
+    }
+
+    private double getGlyphAdvance(char glyph) {
+        if (Double.isNaN(glyphAdvances[glyph])) {
+            glyphAdvances[glyph] = measurer.applyAsDouble(String.valueOf(glyph));
+        }
+        return glyphAdvances[glyph];
+    }
+}
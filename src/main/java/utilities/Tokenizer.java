@@ -0,0 +1,211 @@
+package utilities;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Tokenizer walks a cursor over the original input and exposes each whitespace separated token
+ * as an offset and length into it. A token enclosed in double quotes may contain whitespace,
+ * and its quotes are not part of the token. A quoted token is taken literally, so it is never
+ * a delimiter. Strings are only created when a value is asked for.
+ */
+public class Tokenizer implements Iterator<String> {
+
+    private static final char QUOTE = '"';
+
+    private final CharSequence input;
+
+    private boolean hasToken;
+    private int tokenOpen;
+    private int tokenStart;
+    private int tokenEnd;
+    private int tokenLimit;
+
+    /**
+     * Creates a Tokenizer positioned before the first token of the input
+     * @param input the input to tokenize
+     */
+    public Tokenizer(CharSequence input) {
+        this.input = input;
+        scanFrom(0);
+    }
+
+    /**
+     * Locates the token beginning at or after the given position
+     * @param position the position to scan from
+     */
+    private void scanFrom(int position) {
+        while (position < input.length() && Character.isWhitespace(input.charAt(position))) {
+            position++;
+        }
+
+        hasToken = position < input.length();
+        tokenOpen = position;
+
+        if (position < input.length() && input.charAt(position) == QUOTE) {
+            int closingQuote = position + 1;
+            while (closingQuote < input.length() && input.charAt(closingQuote) != QUOTE) {
+                closingQuote++;
+            }
+            tokenStart = position + 1;
+            tokenEnd = closingQuote;
+            tokenLimit = Math.min(closingQuote + 1, input.length());
+            return;
+        }
+
+        int end = position;
+        while (end < input.length() && !Character.isWhitespace(input.charAt(end))) {
+            end++;
+        }
+        tokenStart = position;
+        tokenEnd = end;
+        tokenLimit = end;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return hasToken;
+    }
+
+    /**
+     * Retrieves the offset of the next token within the input
+     * @return the offset of the next token
+     */
+    public int getOffset() {
+        return tokenStart;
+    }
+
+    /**
+     * Retrieves the length of the next token
+     * @return the length of the next token
+     */
+    public int getLength() {
+        return tokenEnd - tokenStart;
+    }
+
+    /**
+     * Checks if the next token is equal to the given word, without creating a String
+     * @param word the word to compare with
+     * @return whether there is a next token and it is equal to the word
+     */
+    public boolean nextEquals(String word) {
+        if (!hasNext() || getLength() != word.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < word.length(); i++) {
+            if (input.charAt(tokenStart + i) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Retrieves the value of the next token without moving the cursor past it
+     * @return the value of the next token
+     */
+    public String peek() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return input.subSequence(tokenStart, tokenEnd).toString();
+    }
+
+    private boolean isNextQuoted() {
+        return tokenStart != tokenOpen;
+    }
+
+    /**
+     * Moves the cursor past the next token
+     */
+    public void skip() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        scanFrom(tokenLimit);
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        String token = input.subSequence(tokenStart, tokenEnd).toString();
+        scanFrom(tokenLimit);
+        return token;
+    }
+
+    /**
+     * Consumes all the remaining tokens as a single value. If only one token remains,
+     * its value is returned, otherwise the values of the tokens are returned with the
+     * original whitespace between them.
+     * @return the remaining text of the input, or an empty string if there is none
+     */
+    public String remainder() {
+        return copyUntil(null);
+    }
+
+    /**
+     * Consumes the tokens up to the first unquoted token equal to the delimiter as a single value,
+     * and discards the delimiter. If only one token is consumed, its value is returned,
+     * otherwise the values of the tokens are returned with the original whitespace between them.
+     * @param delimiter the token to read up to, or null to read to the end of the input
+     * @return the text before the delimiter, or an empty string if there is none
+     */
+    public String copyUntil(String delimiter) {
+        if (!hasNext()) {
+            return "";
+        }
+
+        int firstStart = tokenStart;
+        int firstEnd = tokenEnd;
+        int spanStart = tokenOpen;
+        int spanEnd = tokenOpen;
+        int count = 0;
+        boolean hasQuotedToken = false;
+
+        while (hasNext() && (delimiter == null || isNextQuoted() || !nextEquals(delimiter))) {
+            spanEnd = tokenLimit;
+            hasQuotedToken |= isNextQuoted();
+            count++;
+            skip();
+        }
+
+        if (hasNext()) {
+            skip();
+        }
+
+        if (count == 0) {
+            return "";
+        }
+        if (count == 1) {
+            return input.subSequence(firstStart, firstEnd).toString();
+        }
+        if (!hasQuotedToken) {
+            return input.subSequence(spanStart, spanEnd).toString();
+        }
+        return copyValues(spanStart, spanEnd);
+    }
+
+    /**
+     * Copies the values of the tokens within a span of the input, leaving out their quotes
+     * but keeping the whitespace between them
+     * @param spanStart the start of the first token in the span
+     * @param spanEnd the end of the last token in the span, including its closing quote
+     * @return the values of the tokens in the span
+     */
+    private String copyValues(int spanStart, int spanEnd) {
+        Tokenizer span = new Tokenizer(input.subSequence(spanStart, spanEnd));
+        StringBuilder values = new StringBuilder(spanEnd - spanStart);
+        int gapStart = 0;
+        while (span.hasNext()) {
+            values.append(span.input, gapStart, span.tokenOpen)
+                    .append(span.input, span.tokenStart, span.tokenEnd);
+            gapStart = span.tokenLimit;
+            span.skip();
+        }
+        return values.toString();
+    }
+}
@@ -0,0 +1,92 @@
+package testing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.function.LongConsumer;
+
+import org.junit.jupiter.api.Test;
+
+import dukeprogram.userinterface.AnimationGovernor;
+
+/**
+ * Tests involving the AnimationGovernor class, with pulses given by hand rather than by the scene
+ */
+public class AnimationGovernorTests {
+
+    /**
+     * A pulse source whose pulses are given by the test
+     */
+    private static class ManualPulseSource implements AnimationGovernor.PulseSource {
+        private LongConsumer onPulse;
+        private long now = 1_000_000_000L;
+
+        @Override
+        public void start(LongConsumer onPulse) {
+            this.onPulse = onPulse;
+        }
+
+        @Override
+        public void stop() {
+            onPulse = null;
+        }
+
+        private void pulseEvery(long millis, int numberOfPulses) {
+            for (int i = 0; i < numberOfPulses; i++) {
+                now += millis * 1_000_000;
+                onPulse.accept(now);
+            }
+        }
+    }
+
+    private final ManualPulseSource pulseSource = new ManualPulseSource();
+    private final AnimationGovernor governor = new AnimationGovernor(pulseSource);
+
+    /**
+     * Checks if no more than 24 animations are played at once, and a released slot may be taken again
+     */
+    @Test
+    public void animationGovernor_capsAnimationsInFlight() {
+        for (int i = 0; i < 24; i++) {
+            assertTrue(governor.tryAcquire());
+        }
+        assertFalse(governor.tryAcquire());
+        assertEquals(24, governor.getNumberOfAnimationsInFlight());
+
+        governor.release();
+        assertTrue(governor.tryAcquire());
+        assertEquals("Played 25 animations and skipped 1", governor.toString());
+    }
+
+    /**
+     * Checks if animations are refused while the pulses take longer than the budget,
+     * and allowed again once nothing is animating
+     */
+    @Test
+    public void animationGovernor_refusesOverPulseBudget() {
+        assertTrue(governor.tryAcquire());
+        pulseSource.pulseEvery(16, 30);
+        assertTrue(governor.getAveragePulseMillis() < 25);
+        assertTrue(governor.tryAcquire());
+
+        pulseSource.pulseEvery(50, 30);
+        assertTrue(governor.getAveragePulseMillis() > 25);
+        assertFalse(governor.tryAcquire());
+
+        governor.release();
+        governor.release();
+        assertEquals(0.0, governor.getAveragePulseMillis());
+        assertTrue(governor.tryAcquire());
+    }
+
+    /**
+     * Checks if no animation is played in the reduced motion mode
+     */
+    @Test
+    public void animationGovernor_reducedMotion() {
+        governor.setReducedMotion(true);
+        assertFalse(governor.tryAcquire());
+        assertEquals(0, governor.getNumberOfAnimationsInFlight());
+    }
+}
@@ -0,0 +1,155 @@
+package testing;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ApiLoadTest sends requests to a running ApiServer from several clients at once,
+ * and reports the throughput and the latency percentiles of the requests.
+ * Reads list the tasks, while writes post a command, which is "tasks list" unless another is given.
+ * Run it with <code>gradlew loadTestApi --args="[options]"</code> while the server is running.
+ */
+public class ApiLoadTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final URI readUri;
+    private final URI writeUri;
+    private final String command;
+    private final double writeRatio;
+
+    /**
+     * Creates an ApiLoadTest
+     * @param port the port the server is listening on
+     * @param command the command to post for every write
+     * @param writeRatio the fraction of requests that are writes, between 0 and 1
+     */
+    public ApiLoadTest(int port, String command, double writeRatio) {
+        this.readUri = URI.create(String.format("http://localhost:%d/tasks", port));
+        this.writeUri = URI.create(String.format("http://localhost:%d/commands", port));
+        this.command = command;
+        this.writeRatio = writeRatio;
+    }
+
+    /**
+     * Sends the requests from the given number of clients, each waiting for its previous request to complete
+     * @param numberOfClients the number of clients sending requests at once
+     * @param requestsPerClient the number of requests each client sends
+     * @return the latency of every request in nanoseconds
+     * @throws Exception if a request could not be sent
+     */
+    public long[] run(int numberOfClients, int requestsPerClient) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(numberOfClients);
+        Future<?>[] futures = new Future<?>[numberOfClients];
+        long[] latencies = new long[numberOfClients * requestsPerClient];
+
+        for (int c = 0; c < numberOfClients; c++) {
+            int offset = c * requestsPerClient;
+            futures[c] = clients.submit(() -> {
+                for (int i = 0; i < requestsPerClient; i++) {
+                    latencies[offset + i] = sendRequest();
+                }
+                return null;
+            });
+        }
+
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            clients.shutdown();
+        }
+        return latencies;
+    }
+
+    private long sendRequest() throws IOException, InterruptedException {
+        HttpRequest request = ThreadLocalRandom.current().nextDouble() < writeRatio
+                ? HttpRequest.newBuilder(writeUri).POST(HttpRequest.BodyPublishers.ofString(command)).build()
+                : HttpRequest.newBuilder(readUri).GET().build();
+
+        long startTime = System.nanoTime();
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        long latency = System.nanoTime() - startTime;
+
+        if (response.statusCode() != 200) {
+            throw new IOException("The server responded with status " + response.statusCode());
+        }
+        return latency;
+    }
+
+    private static double percentileMillis(long[] sortedLatencies, double percentile) {
+        int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    /**
+     * Runs a load test given the arguments
+     * <code>[--port &lt;n&gt;] [--clients &lt;n&gt;] [--requests &lt;n&gt;] [--write-ratio &lt;r&gt;]
+     * [--command &lt;command&gt;]</code>
+     * @param args the command line arguments
+     */
+    public static void main(String[] args) {
+        int port = 8080;
+        int numberOfClients = 8;
+        int requestsPerClient = 1000;
+        double writeRatio = 0.1;
+        String command = "tasks list";
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                case "--port":
+                    port = Integer.parseInt(args[++i]);
+                    break;
+
+                case "--clients":
+                    numberOfClients = Integer.parseInt(args[++i]);
+                    break;
+
+                case "--requests":
+                    requestsPerClient = Integer.parseInt(args[++i]);
+                    break;
+
+                case "--write-ratio":
+                    writeRatio = Double.parseDouble(args[++i]);
+                    break;
+
+                case "--command":
+                    command = args[++i];
+                    break;
+
+                default:
+                    break;
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            System.err.println("Usage: [--port <n>] [--clients <n>] [--requests <n>] [--write-ratio <r>]"
+                    + " [--command <command>]");
+            return;
+        }
+
+        try {
+            ApiLoadTest loadTest = new ApiLoadTest(port, command, writeRatio);
+            long startTime = System.nanoTime();
+            long[] latencies = loadTest.run(Math.max(numberOfClients, 1), Math.max(requestsPerClient, 1));
+            double elapsedSeconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+
+            Arrays.sort(latencies);
+            System.out.printf("%d requests in %.2f s (%.0f requests/s)%n",
+                    latencies.length, elapsedSeconds, latencies.length / elapsedSeconds);
+            System.out.printf("latency p50 %.2f ms, p95 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                    percentileMillis(latencies, 50), percentileMillis(latencies, 95),
+                    percentileMillis(latencies, 99), percentileMillis(latencies, 100));
+        } catch (Exception e) {
+            System.err.println("The load test failed: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package testing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import dukeprogram.server.ApiServer;
+
+/**
+ * Tests involving the ApiServer class, served on any free port of the loopback address
+ */
+public class ApiServerTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    /**
+     * Checks if the endpoints answer with the expected JSON, and refuse the wrong methods
+     */
+    @Test
+    public void apiServer_endpoints() throws Exception {
+        ApiServer server = startServer();
+        try {
+            JsonNode added = post(server, "tasks add todo apiServerTask");
+            assertEquals(1, added.size());
+            JsonNode response = added.get("responses").get(0);
+            assertEquals("Okay, I've added this task ", response.get("text").asText());
+            assertEquals("regular", response.get("style").asText());
+            assertEquals("[T][ ] apiServerTask", response.get("widget").get(0).asText());
+
+            JsonNode tasks = objectMapper.readTree(get(server, "/tasks").body());
+            assertTrue(tasks.isArray());
+            JsonNode lastTask = tasks.get(tasks.size() - 1);
+            assertEquals(tasks.size(), lastTask.get("index").asInt());
+            assertEquals("apiServerTask", lastTask.get("name").asText());
+            assertEquals("[T][ ] apiServerTask", lastTask.get("description").asText());
+
+            assertTrue(objectMapper.readTree(get(server, "/loans").body()).isArray());
+
+            assertEquals(405, get(server, "/commands").statusCode());
+            HttpResponse<String> postToTasks = client.send(
+                    HttpRequest.newBuilder(uri(server, "/tasks")).POST(HttpRequest.BodyPublishers.ofString("")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertEquals(405, postToTasks.statusCode());
+        } finally {
+            server.stop();
+        }
+    }
+
+    /**
+     * Checks if every command posted at the same time is answered with only its own responses
+     */
+    @Test
+    public void apiServer_concurrentCommandsGetOwnResponses() throws Exception {
+        ApiServer server = startServer();
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<JsonNode>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                String command = "tasks add todo apiConcurrentTask" + i;
+                futures.add(clients.submit(() -> post(server, command)));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                JsonNode responses = futures.get(i).get().get("responses");
+                assertEquals(1, responses.size());
+                assertEquals("[T][ ] apiConcurrentTask" + i, responses.get(0).get("widget").get(0).asText());
+            }
+        } finally {
+            clients.shutdown();
+            server.stop();
+        }
+    }
+
+    /**
+     * Checks if saying goodbye is refused, and the server keeps answering afterwards
+     */
+    @Test
+    public void apiServer_byeIsRefused() throws Exception {
+        ApiServer server = startServer();
+        try {
+            JsonNode responses = post(server, "bye").get("responses");
+            assertEquals(1, responses.size());
+            assertEquals("I can't be closed from here...", responses.get(0).get("text").asText());
+
+            assertEquals(200, get(server, "/tasks").statusCode());
+        } finally {
+            server.stop();
+        }
+    }
+
+    /**
+     * Checks if an argument that is not understood prints the usage, without serving anything
+     */
+    @Test
+    public void apiServer_unknownArgumentPrintsUsage() {
+        ByteArrayOutputStream standardError = new ByteArrayOutputStream();
+        PrintStream originalError = System.err;
+        System.setErr(new PrintStream(standardError, true, StandardCharsets.UTF_8));
+        try {
+            ApiServer.main(new String[] { "--serve", "--prot", "0" });
+        } finally {
+            System.setErr(originalError);
+        }
+
+        assertTrue(standardError.toString(StandardCharsets.UTF_8).startsWith("Usage:"));
+    }
+
+    private static ApiServer startServer() throws IOException {
+        ApiServer server = new ApiServer(0, 4, 1);
+        server.start();
+        return server;
+    }
+
+    private static URI uri(ApiServer server, String path) {
+        return URI.create(String.format("http://localhost:%d%s", server.getPort(), path));
+    }
+
+    private HttpResponse<String> get(ApiServer server, String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(uri(server, path)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private JsonNode post(ApiServer server, String command) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri(server, "/commands"))
+                .POST(HttpRequest.BodyPublishers.ofString(command))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode());
+        return objectMapper.readTree(response.body());
+    }
+}
@@ -0,0 +1,157 @@
+package testing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+import dukeprogram.facilities.CalendarExport;
+import dukeprogram.facilities.TaskList;
+import dukeprogram.storage.IcsWriter;
+import dukeprogram.tasks.Deadline;
+import dukeprogram.tasks.Event;
+import dukeprogram.tasks.Task;
+import dukeprogram.tasks.ToDo;
+
+/**
+ * Tests involving the CalendarExport and IcsWriter classes
+ */
+public class CalendarTests {
+
+    private static final Instant STAMP = Instant.parse("2023-03-01T00:00:00Z");
+
+    private static String export(CalendarExport calendarExport, TaskList taskList, boolean isOnlyChanged,
+            int expectedNumberOfTasks) throws IOException {
+        StringWriter text = new StringWriter();
+        assertEquals(expectedNumberOfTasks, calendarExport.write(taskList, new IcsWriter(text), isOnlyChanged, STAMP));
+        return text.toString();
+    }
+
+    /**
+     * Checks if deadlines and events are exported as to-dos and events, leaving out other tasks
+     */
+    @Test
+    public void calendar_exportDeadlinesAndEvents() throws IOException {
+        TaskList taskList = new TaskList();
+        taskList.add(new ToDo("read book"));
+        taskList.add(new Deadline("submit report", "5 Mar 2023 18:00"));
+        taskList.add(new Event("team meeting", "6 Mar 2023 9:00", "6 Mar 2023 10:30"));
+
+        String calendar = export(new CalendarExport(), taskList, false, 2);
+        assertTrue(calendar.startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n"));
+        assertTrue(calendar.endsWith("END:VCALENDAR\r\n"));
+        assertTrue(calendar.contains("BEGIN:VTODO\r\nUID:" + taskList.get(1).getCalendarUid() + "\r\n"
+                + "DTSTAMP:20230301T000000Z\r\nSEQUENCE:0\r\nSUMMARY:submit report\r\n"
+                + "DUE:20230305T180000\r\nSTATUS:NEEDS-ACTION\r\nEND:VTODO\r\n"));
+        assertTrue(calendar.contains("DTSTART:20230306T090000\r\nDTEND:20230306T103000\r\nEND:VEVENT\r\n"));
+        assertFalse(calendar.contains("read book"));
+    }
+
+    /**
+     * Checks if only the tasks added or changed since the last export are exported again
+     */
+    @Test
+    public void calendar_exportOnlyChanged() throws IOException {
+        TaskList taskList = new TaskList();
+        Task deadline = new Deadline("submit report", "5 Mar 2023 18:00");
+        taskList.add(deadline);
+        taskList.add(new Event("team meeting", "6 Mar 2023 9:00", "6 Mar 2023 10:30"));
+
+        CalendarExport calendarExport = new CalendarExport();
+        export(calendarExport, taskList, true, 2);
+        export(calendarExport, taskList, true, 0);
+
+        deadline.markJobState(true);
+        taskList.add(new Deadline("pay rent", "1 Apr 2023"));
+        String calendar = export(calendarExport, taskList, true, 2);
+        assertTrue(calendar.contains("SEQUENCE:1\r\nSUMMARY:submit report\r\n"));
+        assertTrue(calendar.contains("STATUS:COMPLETED"));
+        assertFalse(calendar.contains("team meeting"));
+
+        export(calendarExport, taskList, false, 3);
+    }
+
+    /**
+     * Checks if deadlines and events deleted since the last export are exported once as cancelled
+     */
+    @Test
+    public void calendar_exportDeletedAsCancelled() throws IOException {
+        TaskList taskList = new TaskList();
+        taskList.add(new Deadline("submit report", "5 Mar 2023 18:00"));
+        taskList.add(new Event("team meeting", "6 Mar 2023 9:00", "6 Mar 2023 10:30"));
+        String deadlineUid = taskList.get(0).getCalendarUid();
+        String eventUid = taskList.get(1).getCalendarUid();
+
+        CalendarExport calendarExport = new CalendarExport();
+        export(calendarExport, taskList, true, 2);
+
+        taskList.get(0).markJobState(true);
+        export(calendarExport, taskList, true, 1);
+
+        taskList.clear();
+        String calendar = export(calendarExport, taskList, true, 2);
+        assertTrue(calendar.contains("BEGIN:VTODO\r\nUID:" + deadlineUid + "\r\nDTSTAMP:20230301T000000Z\r\n"
+                + "SEQUENCE:2\r\nSTATUS:CANCELLED\r\nEND:VTODO\r\n"));
+        assertTrue(calendar.contains("BEGIN:VEVENT\r\nUID:" + eventUid + "\r\nDTSTAMP:20230301T000000Z\r\n"
+                + "SEQUENCE:1\r\nSTATUS:CANCELLED\r\nEND:VEVENT\r\n"));
+
+        // cancelled tasks are forgotten, so they are not cancelled again
+        export(calendarExport, taskList, true, 0);
+    }
+
+    /**
+     * Checks if the tasks of an export that failed are not remembered as exported
+     */
+    @Test
+    public void calendar_failedExportIsNotRemembered() throws IOException {
+        TaskList taskList = new TaskList();
+        taskList.add(new Deadline("submit report", "5 Mar 2023 18:00"));
+        taskList.add(new Event("team meeting", "6 Mar 2023 9:00", "6 Mar 2023 10:30"));
+
+        // a writer that fails once the calendar buffered is written to it, such as when the disk is full
+        Writer failingWriter = new Writer() {
+            @Override
+            public void write(char[] characters, int offset, int length) throws IOException {
+                throw new IOException("The disk is full");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        CalendarExport calendarExport = new CalendarExport();
+        IcsWriter writer = new IcsWriter(failingWriter);
+        assertThrows(IOException.class, () -> calendarExport.write(taskList, writer, true, STAMP));
+        export(calendarExport, taskList, true, 2);
+    }
+
+    /**
+     * Checks if text is escaped and long lines are folded to at most 75 bytes
+     */
+    @Test
+    public void calendar_escapeAndFoldLines() throws IOException {
+        StringWriter text = new StringWriter();
+        try (IcsWriter writer = new IcsWriter(text)) {
+            writer.writeTextProperty("SUMMARY", "buy eggs, milk; and bread\n" + "é".repeat(100));
+        }
+
+        for (String line : text.toString().split("\r\n")) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75);
+        }
+        assertEquals("SUMMARY:buy eggs\\, milk\\; and bread\\n" + "é".repeat(100) + "\r\n",
+                text.toString().replace("\r\n ", ""));
+    }
+}
@@ -0,0 +1,89 @@
+package testing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import dukeprogram.command.Command;
+import dukeprogram.command.CommandRegistry;
+import exceptions.IncompleteCommandException;
+import exceptions.InvalidCommandException;
+import utilities.Tokenizer;
+
+/**
+ * Testcases that involve dispatching commands through the CommandRegistry
+ */
+public class CommandRegistryTests {
+
+    /**
+     * A command that records the elements it was given
+     */
+    private static class RecordingCommand extends Command {
+        private final List<String> received = new ArrayList<>();
+
+        private RecordingCommand() {
+            super(null);
+        }
+
+        @Override
+        public void parse(Iterator<String> elements) {
+            elements.forEachRemaining(received::add);
+        }
+    }
+
+    private static Tokenizer elementsOf(String input) {
+        return new Tokenizer(input);
+    }
+
+    /**
+     * Checks if the deepest matching command receives the remaining elements
+     */
+    @Test
+    public void commandRegistry_dispatchesToDeepestMatch()
+            throws IncompleteCommandException, InvalidCommandException {
+        CommandRegistry registry = new CommandRegistry();
+        RecordingCommand tasks = new RecordingCommand();
+        RecordingCommand addTodo = new RecordingCommand();
+        registry.register("tasks", tasks);
+        registry.register("tasks add todo", addTodo);
+
+        registry.dispatch(elementsOf("tasks add todo buy groceries"));
+        assertEquals(List.of("buy", "groceries"), addTodo.received);
+
+        registry.dispatch(elementsOf("tasks help"));
+        assertEquals(List.of("help"), tasks.received);
+    }
+
+    /**
+     * Checks if an unregistered command is rejected
+     */
+    @Test
+    public void commandRegistry_rejectsUnknownCommand() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register("tasks", new RecordingCommand());
+
+        assertThrows(InvalidCommandException.class, () -> registry.dispatch(elementsOf("loans list")));
+    }
+
+    /**
+     * Checks if subcommands and completions are listed in order of registration
+     */
+    @Test
+    public void commandRegistry_listsSubcommandsAndCompletions() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register("tasks list", new RecordingCommand());
+        registry.register("tasks delete", new RecordingCommand());
+        registry.register("tasks find", new RecordingCommand());
+        registry.register("thanks", new RecordingCommand());
+
+        assertEquals(List.of("list", "delete", "find"), registry.getSubcommands("tasks"));
+        assertEquals(List.of("tasks", "thanks"), registry.complete("t"));
+        assertEquals(List.of("tasks delete"), registry.complete("tasks d"));
+        assertEquals(List.of(), registry.complete("loans l"));
+    }
+}
@@ -0,0 +1,198 @@
+package testing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import dukeprogram.Duke;
+import dukeprogram.facilities.Loan;
+import dukeprogram.facilities.LoanCollection;
+import dukeprogram.facilities.TaskList;
+import dukeprogram.storage.CsvReader;
+import dukeprogram.storage.CsvWriter;
+import dukeprogram.tasks.Deadline;
+import dukeprogram.tasks.Event;
+import exceptions.KeyNotFoundException;
+
+/**
+ * Tests involving the CsvReader and CsvWriter classes
+ */
+public class CsvTests {
+
+    /**
+     * Checks if fields with commas, quotes and line breaks are read back as they were written
+     */
+    @Test
+    public void csv_roundTripQuotedFields() throws IOException {
+        StringWriter text = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(text)) {
+            writer.writeRow("todo", "buy eggs, milk", "false");
+            writer.writeRow("event", "the \"big\" meeting", "true");
+            writer.writeRow("deadline", "line one\nline two", "");
+        }
+        assertTrue(text.toString().startsWith("todo,\"buy eggs, milk\",false\n"));
+
+        try (CsvReader reader = new CsvReader(new StringReader(text.toString()))) {
+            assertEquals(List.of("todo", "buy eggs, milk", "false"), reader.readRow());
+            assertEquals(List.of("event", "the \"big\" meeting", "true"), reader.readRow());
+            assertEquals(List.of("deadline", "line one\nline two", ""), reader.readRow());
+            assertEquals(4, reader.getLineNumber());
+            assertNull(reader.readRow());
+        }
+    }
+
+    /**
+     * Checks if many rows are read one at a time, including empty fields
+     */
+    @Test
+    public void csv_readManyRows() throws IOException {
+        StringBuilder text = new StringBuilder("creditor,amount,date\n");
+        for (int i = 0; i < 10000; i++) {
+            text.append("P").append(i).append(",").append(i).append(".50,\n");
+        }
+
+        int numberOfRows = 0;
+        try (CsvReader reader = new CsvReader(new StringReader(text.toString()))) {
+            reader.readRow();
+            List<String> row;
+            while ((row = reader.readRow()) != null) {
+                assertEquals(List.of("P" + numberOfRows, numberOfRows + ".50", ""), row);
+                numberOfRows++;
+            }
+        }
+        assertEquals(10000, numberOfRows);
+    }
+
+    /**
+     * Checks if the loans exported are imported with every transaction at the same millisecond,
+     * including the opening balance of a loan made before its transactions were recorded.
+     * The save file is written under the user home of the tests.
+     */
+    @Test
+    public void csv_loansRoundTrip() throws IOException, KeyNotFoundException {
+        Path saveFile = Path.of(System.getProperty("user.home"), "CS2103T", "DukeData", "savefile.json");
+        Path csvFile = Files.createTempFile("loans", ".csv");
+        long transactionTime = 1678010400123L;
+
+        try {
+            Files.deleteIfExists(saveFile);
+            Duke exportingDuke = new Duke(response -> { });
+            exportingDuke.getLoanCollection().put(new Loan("Bob", 700));
+            exportingDuke.getLoanCollection().add("Bob", -250, transactionTime);
+            exportingDuke.parseInput("loans export " + csvFile);
+
+            List<String> lines = Files.readAllLines(csvFile, StandardCharsets.UTF_8);
+            assertEquals(List.of("creditor,amount,date", "Bob,7.00,1970-01-01T00:00:00Z",
+                    "Bob,-2.50,2023-03-05T10:00:00.123Z"), lines);
+
+            Files.deleteIfExists(saveFile);
+            Duke importingDuke = new Duke(response -> { });
+            importingDuke.parseInput("loans import " + csvFile);
+
+            LoanCollection loanCollection = importingDuke.getLoanCollection();
+            Loan loan = loanCollection.get("bob");
+            assertEquals(450, loan.getCents());
+            assertEquals(2, loan.getNumberOfTransactions());
+            assertEquals(0, loan.getTransactionTime(0));
+            assertEquals(transactionTime, loan.getTransactionTime(1));
+            assertEquals(700, loan.getCentsAt(transactionTime - 1));
+        } finally {
+            Files.deleteIfExists(csvFile);
+        }
+    }
+
+    /**
+     * Checks if rows that are not in time order, or are older than the loans already recorded,
+     * are imported at their own times and exported again in time order.
+     * The save file is written under the user home of the tests.
+     */
+    @Test
+    public void csv_loansUnorderedRoundTrip() throws IOException, KeyNotFoundException {
+        Path saveFile = Path.of(System.getProperty("user.home"), "CS2103T", "DukeData", "savefile.json");
+        Path csvFile = Files.createTempFile("loans", ".csv");
+
+        try {
+            Files.write(csvFile, List.of("creditor,amount,date",
+                    "Bob,3.00,2023-03-05T12:00:00Z",
+                    "Bob,1.00,2023-03-01T12:00:00Z",
+                    "Bob,2.00,2023-03-03T12:00:00Z"), StandardCharsets.UTF_8);
+
+            Files.deleteIfExists(saveFile);
+            Duke duke = new Duke(response -> { });
+            duke.getLoanCollection().add("Bob", 400, Instant.parse("2023-03-04T12:00:00Z").toEpochMilli());
+            duke.parseInput("loans import " + csvFile);
+
+            Loan loan = duke.getLoanCollection().get("bob");
+            assertEquals(1000, loan.getCents());
+            assertEquals(300, loan.getCentsAt(Instant.parse("2023-03-03T12:00:00Z").toEpochMilli()));
+            assertEquals(700, loan.getCentsAt(Instant.parse("2023-03-04T12:00:00Z").toEpochMilli()));
+
+            duke.parseInput("loans export " + csvFile);
+            assertEquals(List.of("creditor,amount,date",
+                    "Bob,1.00,2023-03-01T12:00:00Z",
+                    "Bob,2.00,2023-03-03T12:00:00Z",
+                    "Bob,4.00,2023-03-04T12:00:00Z",
+                    "Bob,3.00,2023-03-05T12:00:00Z"), Files.readAllLines(csvFile, StandardCharsets.UTF_8));
+        } finally {
+            Files.deleteIfExists(csvFile);
+        }
+    }
+
+    /**
+     * Checks if the dates of tasks are exported as ISO-8601 and imported back to the same tasks,
+     * keeping a date that could not be understood as it was given.
+     * The save file is written under the user home of the tests.
+     */
+    @Test
+    public void csv_tasksRoundTrip() throws IOException {
+        Path saveFile = Path.of(System.getProperty("user.home"), "CS2103T", "DukeData", "savefile.json");
+        Path csvFile = Files.createTempFile("tasks", ".csv");
+
+        try {
+            Files.deleteIfExists(saveFile);
+            Duke exportingDuke = new Duke(response -> { });
+            exportingDuke.getTaskList().add(new Event("meeting", "5 Mar 2023 14:30", "5 Mar 2023 15:00"));
+            exportingDuke.getTaskList().add(new Deadline("report", "next week"));
+            exportingDuke.parseInput("tasks export " + csvFile);
+
+            assertEquals(List.of("type,name,done,start,end",
+                    "event,meeting,false,2023-03-05T14:30,2023-03-05T15:00",
+                    "deadline,report,false,next week,"), Files.readAllLines(csvFile, StandardCharsets.UTF_8));
+
+            Files.deleteIfExists(saveFile);
+            Duke importingDuke = new Duke(response -> { });
+            importingDuke.parseInput("tasks import " + csvFile);
+
+            TaskList taskList = importingDuke.getTaskList();
+            assertEquals(2, taskList.getSize());
+            for (int i = 0; i < taskList.getSize(); i++) {
+                assertEquals(exportingDuke.getTaskList().get(i).toString(), taskList.get(i).toString());
+            }
+            assertEquals(LocalDateTime.of(2023, 3, 5, 15, 0), ((Event) taskList.get(0)).getEndDateTime());
+        } finally {
+            Files.deleteIfExists(csvFile);
+        }
+    }
+
+    /**
+     * Checks if a quoted field that is never closed is reported
+     */
+    @Test
+    public void csv_unclosedQuote() {
+        CsvReader reader = new CsvReader(new StringReader("todo,\"never closed\nstill open"));
+        assertThrows(IOException.class, reader::readRow);
+    }
+}
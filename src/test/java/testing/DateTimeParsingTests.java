@@ -184,4 +184,13 @@ public class DateTimeParsingTests {
                 localDateTime3);
     }
 
+
+    /**
+     * Tests if dates in the format they are displayed in are parsed back to the same time
+     */
+    @Test
+    public void dateTimeParser_displayedFormat() {
+        LocalDateTime localDateTime = LocalDateTime.of(2023, 3, 5, 18, 30);
+        assertEquals(localDateTime, DateTimeParser.parse(localDateTime.format(DateTimeParser.DISPLAYED_FORMAT)));
+    }
 }
@@ -0,0 +1,93 @@
+package testing;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+import dukeprogram.tasks.ToDo;
+import dukeprogram.userinterface.DialogBox;
+import dukeprogram.userinterface.DukeResponse;
+import dukeprogram.userinterface.TextStyle;
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+
+/**
+ * Measures how many dialog bubbles can be built per second. The layout of each bubble used to be
+ * parsed from FXML templates, and is now built in code by DialogBox. The templates are no longer shipped,
+ * so copies of them are kept as fixtures in the benchmark-fixtures folder of the test resources.
+ * Run it headlessly with <code>gradlew benchmarkBubbles</code>.
+ */
+public class DialogBoxBenchmark {
+
+    private static final int NUMBER_OF_WARMUP_BUBBLES = 1000;
+    private static final int NUMBER_OF_MEASURED_BUBBLES = 5000;
+
+    /**
+     * Runs the benchmark on the JavaFX application thread
+     * @param args unused
+     * @throws InterruptedException if interrupted while waiting for the benchmark to finish
+     */
+    public static void main(String[] args) throws InterruptedException {
+        CountDownLatch hasFinished = new CountDownLatch(1);
+        Platform.startup(() -> {
+            try {
+                run();
+            } finally {
+                hasFinished.countDown();
+            }
+        });
+        hasFinished.await();
+        Platform.exit();
+    }
+
+    private static void run() {
+        DukeResponse response = new DukeResponse("Here are the tasks in your list:",
+                List.of(new ToDo("buy groceries"), new ToDo("return books")), TextStyle.Regular);
+
+        double templateNanos = measureNanosPerBubble(DialogBoxBenchmark::parseTemplates);
+        double buildNanos = measureNanosPerBubble(() -> DialogBox.ofDuke(response, false));
+
+        System.out.printf("Parsing the FXML templates of a bubble: %8.1f us (%,.0f bubbles/s)%n",
+                templateNanos / 1000, 1e9 / templateNanos);
+        System.out.printf("Building a bubble in code:              %8.1f us (%,.0f bubbles/s)%n",
+                buildNanos / 1000, 1e9 / buildNanos);
+        System.out.printf("Before, with the templates parsed:      %8.1f us (%,.0f bubbles/s)%n",
+                (templateNanos + buildNanos) / 1000, 1e9 / (templateNanos + buildNanos));
+    }
+
+    private static Object parseTemplates() {
+        try {
+            FXMLLoader dialogBoxLoader = new FXMLLoader(
+                    DialogBoxBenchmark.class.getResource("/benchmark-fixtures/DialogBox.fxml"));
+            dialogBoxLoader.setRoot(new HBox());
+            dialogBoxLoader.load();
+
+            FXMLLoader widgetLoader = new FXMLLoader(
+                    DialogBoxBenchmark.class.getResource("/benchmark-fixtures/Widget.fxml"));
+            widgetLoader.setRoot(new VBox());
+            return widgetLoader.load();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static double measureNanosPerBubble(Supplier<Object> bubbleFactory) {
+        Object lastBubble = null;
+        for (int i = 0; i < NUMBER_OF_WARMUP_BUBBLES; i++) {
+            lastBubble = bubbleFactory.get();
+        }
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < NUMBER_OF_MEASURED_BUBBLES; i++) {
+            lastBubble = bubbleFactory.get();
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+
+        assert lastBubble != null;
+        return (double) elapsedNanos / NUMBER_OF_MEASURED_BUBBLES;
+    }
+}
@@ -0,0 +1,51 @@
+package testing;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import dukeprogram.facilities.DebtLedger;
+import dukeprogram.facilities.Settlement;
+
+/**
+ * Measures how long it takes to record a million debts between ten thousand parties,
+ * and to work out the transfers that settle them all.
+ * Run it with <code>gradlew benchmarkSettlement</code>.
+ */
+public class LoanSettlementBenchmark {
+
+    private static final int NUMBER_OF_PARTIES = 10_000;
+    private static final int NUMBER_OF_DEBTS = 1_000_000;
+    private static final int NUMBER_OF_RUNS = 5;
+
+    /**
+     * Runs the benchmark
+     * @param args unused
+     */
+    public static void main(String[] args) {
+        String[] names = new String[NUMBER_OF_PARTIES];
+        for (int i = 0; i < NUMBER_OF_PARTIES; i++) {
+            names[i] = "Party " + i;
+        }
+
+        for (int run = 1; run <= NUMBER_OF_RUNS; run++) {
+            Random random = new Random(run);
+            DebtLedger ledger = new DebtLedger();
+
+            long startTime = System.nanoTime();
+            for (int i = 0; i < NUMBER_OF_DEBTS; i++) {
+                int debtor = random.nextInt(NUMBER_OF_PARTIES);
+                int creditor = (debtor + 1 + random.nextInt(NUMBER_OF_PARTIES - 1)) % NUMBER_OF_PARTIES;
+                ledger.record(names[debtor], names[creditor], 1 + random.nextInt(100_000));
+            }
+            long recordedTime = System.nanoTime();
+            List<Settlement> settlements = ledger.settle(Map.of());
+            long settledTime = System.nanoTime();
+
+            System.out.printf("Run %d: recorded %,d debts in %6.1f ms, "
+                            + "settled %,d parties with %,d transfers in %6.1f ms%n",
+                    run, ledger.getNumberOfDebts(), (recordedTime - startTime) / 1e6,
+                    ledger.getNumberOfParties(), settlements.size(), (settledTime - recordedTime) / 1e6);
+        }
+    }
+}
@@ -3,12 +3,22 @@ package testing;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
+import dukeprogram.facilities.DebtLedger;
 import dukeprogram.facilities.Loan;
 import dukeprogram.facilities.LoanCollection;
+import dukeprogram.facilities.Settlement;
 import exceptions.KeyNotFoundException;
+import utilities.Money;
 
 /**
  * Tests involving the Loans and LoansCollection classes
@@ -30,8 +40,8 @@ public class LoansTests {
     @Test
     public void loans_addLoans() {
         LoanCollection lc = new LoanCollection();
-        lc.add("Janice", 500);
-        lc.add("Paul", 300);
+        lc.add("Janice", 50000);
+        lc.add("Paul", 30000);
 
         assertEquals(2, lc.getSize());
 
@@ -51,13 +61,13 @@ public class LoansTests {
         assertNotNull(janiceLoan);
         assertNotNull(paulLoan);
 
-        assertEquals(500, janiceLoan.getAmount());
-        lc.add("Janice", 378);
-        assertEquals(878, janiceLoan.getAmount());
-        lc.add("Janice", -1292);
-        assertEquals(-414, janiceLoan.getAmount());
+        assertEquals(50000, janiceLoan.getCents());
+        lc.add("Janice", 37800);
+        assertEquals(87800, janiceLoan.getCents());
+        lc.add("Janice", -129200);
+        assertEquals(-41400, janiceLoan.getCents());
 
-        assertEquals(300, paulLoan.getAmount());
+        assertEquals(30000, paulLoan.getCents());
     }
 
     /**
@@ -67,10 +77,10 @@ public class LoansTests {
     public void loans_removeLoan() {
         LoanCollection lc = new LoanCollection();
 
-        lc.add("Paul", 212);
-        lc.add("Isabelle", -341);
-        lc.add("Jeremy", 139);
-        lc.add("Jerome", 2333);
+        lc.add("Paul", 21200);
+        lc.add("Isabelle", -34100);
+        lc.add("Jeremy", 13900);
+        lc.add("Jerome", 233300);
 
         assertEquals(4, lc.getSize());
         Loan noLoan = lc.remove("Kyle");
@@ -78,6 +88,278 @@ public class LoansTests {
         assertEquals(4, lc.getSize());
 
         Loan isabellaLoan = lc.remove("Isabelle");
-        assertEquals(-341, isabellaLoan.getAmount());
+        assertEquals(-34100, isabellaLoan.getCents());
+    }
+
+    /**
+     * Checks if amounts of money are parsed into cents exactly
+     */
+    @Test
+    public void money_parseCents() {
+        assertEquals(1200, Money.parseCents("12"));
+        assertEquals(-350, Money.parseCents("-3.5"));
+        assertEquals(5, Money.parseCents("0.05"));
+        assertEquals(50, Money.parseCents(".5"));
+        assertThrows(NumberFormatException.class, () -> Money.parseCents("1.005"));
+        assertThrows(NumberFormatException.class, () -> Money.parseCents("12a"));
+        assertThrows(NumberFormatException.class, () -> Money.parseCents("-"));
+    }
+
+    /**
+     * Checks if many small amounts of money add up without any rounding error
+     */
+    @Test
+    public void money_addsUpExactly() {
+        LoanCollection lc = new LoanCollection();
+        for (int i = 0; i < 1000; i++) {
+            lc.add("Paul", Money.parseCents("0.10"));
+        }
+        lc.add("Paul", Money.parseCents("-0.05"));
+
+        assertEquals("99.95", Money.format(lc.getAllLoans()[0].getCents()));
+        assertEquals("-0.05", Money.format(-5));
+    }
+
+    /**
+     * Checks if the running totals follow loans as they change direction and are removed
+     */
+    @Test
+    public void loans_maintainTotals() {
+        LoanCollection lc = new LoanCollection();
+        lc.add("Paul", 21200);
+        lc.add("Isabelle", -34100);
+        lc.add("Jeremy", 13900);
+
+        assertEquals(35100, lc.getPayableCents());
+        assertEquals(34100, lc.getReceivableCents());
+        assertEquals(1000, lc.getNetCents());
+        assertEquals(2, lc.getNumberOfCreditorsOwed());
+        assertEquals(1, lc.getNumberOfCreditorsLent());
+
+        lc.add("Paul", -31200);
+        lc.add("Jeremy", -13900);
+        assertEquals(0, lc.getPayableCents());
+        assertEquals(44100, lc.getReceivableCents());
+        assertEquals(0, lc.getNumberOfCreditorsOwed());
+        assertEquals(2, lc.getNumberOfCreditorsLent());
+
+        lc.remove("Isabelle");
+        assertEquals(-10000, lc.getNetCents());
+        assertEquals(1, lc.getNumberOfCreditorsLent());
+
+        lc.clear();
+        assertEquals(0, lc.getNetCents());
+        assertEquals(0, lc.getNumberOfCreditorsLent());
+    }
+
+    /**
+     * Checks if the amount owed at any time is worked out from the recorded transactions
+     */
+    @Test
+    public void loans_balanceAtTime() throws KeyNotFoundException {
+        LoanCollection lc = new LoanCollection();
+        for (int day = 1; day <= 100; day++) {
+            lc.add("Alice", day * 100, day * 1000L);
+        }
+        lc.add("Alice", -5050 * 100, 101_000L);
+
+        Loan aliceLoan = lc.get("Alice");
+        assertEquals(0, aliceLoan.getCents());
+        assertEquals(101, aliceLoan.getNumberOfTransactions());
+        assertEquals(0, aliceLoan.getCentsAt(999));
+        assertEquals(100, aliceLoan.getCentsAt(1000));
+        assertEquals(300, aliceLoan.getCentsAt(2500));
+        assertEquals(16 * 17 / 2 * 100, aliceLoan.getCentsAt(16_000));
+        assertEquals(5050 * 100, aliceLoan.getCentsAt(100_000));
+        assertEquals(0, aliceLoan.getCentsAt(200_000));
+    }
+
+    /**
+     * Checks if transactions recorded or removed out of order keep their times, and are counted in time order
+     */
+    @Test
+    public void loans_balanceAtTimeOutOfOrder() throws KeyNotFoundException {
+        LoanCollection lc = new LoanCollection();
+        Random random = new Random(7);
+        long[] times = new long[100];
+        long[] amounts = new long[100];
+        for (int i = 0; i < times.length; i++) {
+            times[i] = random.nextInt(50) * 1000L;
+            amounts[i] = random.nextInt(2000) - 1000;
+            lc.add("Alice", amounts[i], times[i]);
+        }
+
+        Loan aliceLoan = lc.get("Alice");
+        for (int i = 1; i < aliceLoan.getNumberOfTransactions(); i++) {
+            assertTrue(aliceLoan.getTransactionTime(i - 1) <= aliceLoan.getTransactionTime(i));
+        }
+        assertBalancesAt(aliceLoan, times, amounts);
+
+        // removing a transaction made in the middle of the history, such as when it is undone
+        lc.removeTransaction("Alice", amounts[50], times[50]);
+        amounts[50] = 0;
+        assertEquals(99, aliceLoan.getNumberOfTransactions());
+        assertBalancesAt(aliceLoan, times, amounts);
+    }
+
+    private static void assertBalancesAt(Loan loan, long[] times, long[] amounts) {
+        for (long time = -1000; time <= 50_000; time += 500) {
+            long expected = 0;
+            for (int i = 0; i < times.length; i++) {
+                expected += times[i] <= time ? amounts[i] : 0;
+            }
+            assertEquals(expected, loan.getCentsAt(time));
+        }
+    }
+
+    /**
+     * Checks if a loan made before transactions were recorded keeps its balance as its opening transaction
+     */
+    @Test
+    public void loans_balanceAtTimeOfUnrecordedLoan() {
+        LoanCollection lc = new LoanCollection();
+        Loan loan = new Loan("Bob", 700);
+        lc.put(loan);
+        assertEquals(700, loan.getCentsAt(0));
+
+        lc.add("Bob", -200, 5000);
+        assertEquals(700, loan.getCentsAt(4999));
+        assertEquals(500, loan.getCentsAt(5000));
+    }
+
+    /**
+     * Checks if a chain of debts, including a loan of the user, is settled with a single transfer
+     */
+    @Test
+    public void loans_settleChainOfDebts() {
+        LoanCollection lc = new LoanCollection();
+        lc.add("Alice", 500);
+        lc.recordDebt("Alice", "Bob", 500);
+        lc.recordDebt("Bob", "Carol", 500);
+
+        List<Settlement> settlements = lc.settle("Me");
+        assertEquals(1, settlements.size());
+        assertEquals("Me pays Carol $5.00", settlements.get(0).toString());
+    }
+
+    /**
+     * Checks if random debts are settled with fewer transfers than there are parties
+     */
+    @Test
+    public void loans_settleRandomDebts() {
+        Random random = new Random(2103);
+        DebtLedger ledger = new DebtLedger();
+        for (int i = 0; i < 1000; i++) {
+            int debtor = random.nextInt(50);
+            int creditor = (debtor + 1 + random.nextInt(49)) % 50;
+            ledger.record("P" + debtor, "P" + creditor, 1 + random.nextInt(10000));
+        }
+
+        Map<String, Long> balances = new HashMap<>();
+        for (int i = 0; i < 50; i++) {
+            balances.put("P" + i, ledger.getBalance("P" + i));
+        }
+
+        List<Settlement> settlements = ledger.settle(Map.of());
+        assertTrue(settlements.size() < ledger.getNumberOfParties());
+        for (Settlement settlement : settlements) {
+            assertTrue(settlement.getCents() > 0);
+            balances.merge(settlement.getPayer(), settlement.getCents(), Long::sum);
+            balances.merge(settlement.getPayee(), -settlement.getCents(), Long::sum);
+        }
+        for (long balance : balances.values()) {
+            assertEquals(0, balance);
+        }
+    }
+
+    /**
+     * Checks if creditors are the same regardless of the case and spacing of their names
+     */
+    @Test
+    public void loans_normalizeCreditorNames() throws KeyNotFoundException {
+        LoanCollection lc = new LoanCollection();
+        lc.add("Alice  Tan", 500);
+        lc.add(" alice tan ", 300);
+
+        assertEquals(1, lc.getSize());
+        assertEquals(800, lc.get("ALICE TAN").getCents());
+        assertEquals("Alice  Tan", lc.get("alice tan").getCreditorName());
+        assertTrue(lc.containsKey("alice\ttan"));
+    }
+
+    /**
+     * Checks if the parties of debts are the same regardless of the case and spacing of their names,
+     * and are shown as first recorded
+     */
+    @Test
+    public void loans_normalizeDebtPartyNames() {
+        LoanCollection lc = new LoanCollection();
+        lc.recordDebt("Alice  Tan", "Bob", 1000);
+        lc.recordDebt(" alice tan ", "BOB", 500);
+
+        DebtLedger ledger = lc.getLedger();
+        assertEquals(2, ledger.getNumberOfParties());
+        assertEquals(1500, ledger.getBalance("bob"));
+        assertEquals(-1500, ledger.getBalance("ALICE TAN"));
+
+        List<Settlement> settlements = lc.settle("bob");
+        assertEquals(1, settlements.size());
+        assertEquals("Alice  Tan", settlements.get(0).getPayer());
+        assertEquals("Bob", settlements.get(0).getPayee());
+        assertEquals(1500, settlements.get(0).getCents());
+    }
+
+    /**
+     * Checks if loans are found and removed by the start of the names of their creditors
+     */
+    @Test
+    public void loans_findAndRemoveByPrefix() {
+        LoanCollection lc = new LoanCollection();
+        lc.add("Alicia", 100);
+        lc.add("alice", 200);
+        lc.add("Alan", -300);
+        lc.add("Bob", 400);
+
+        List<Loan> found = lc.findByPrefix("ALI");
+        assertEquals(2, found.size());
+        assertEquals("alice", found.get(0).getCreditorName());
+        assertEquals("Alicia", found.get(1).getCreditorName());
+        assertEquals(3, lc.findByPrefix("a").size());
+        assertEquals(0, lc.findByPrefix("c").size());
+
+        assertEquals(2, lc.removeByPrefix("ali").size());
+        assertEquals(2, lc.getSize());
+        assertEquals(100, lc.getNetCents());
+        assertEquals(1, lc.getNumberOfCreditorsOwed());
+    }
+
+    /**
+     * Checks if the creditors owed and lent the most are found as their loans change
+     */
+    @Test
+    public void loans_topOwedAndLent() {
+        LoanCollection lc = new LoanCollection();
+        lc.add("Alice", 500);
+        lc.add("Bob", 900);
+        lc.add("Carol", -700);
+        lc.add("Dan", 100);
+        lc.add("Eve", -200);
+        lc.add("Fay", 0);
+
+        List<Loan> mostOwed = lc.getMostOwed(2);
+        assertEquals("Bob", mostOwed.get(0).getCreditorName());
+        assertEquals("Alice", mostOwed.get(1).getCreditorName());
+        assertEquals(3, lc.getMostOwed(10).size());
+
+        List<Loan> mostLent = lc.getMostLent(10);
+        assertEquals(2, mostLent.size());
+        assertEquals("Carol", mostLent.get(0).getCreditorName());
+
+        lc.add("Dan", 1000);
+        lc.add("Bob", -1000);
+        lc.remove("Carol");
+        assertEquals("Dan", lc.getMostOwed(1).get(0).getCreditorName());
+        assertEquals("Eve", lc.getMostLent(1).get(0).getCreditorName());
+        assertEquals(2, lc.getMostLent(10).size());
     }
 }
@@ -0,0 +1,135 @@
+package testing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import dukeprogram.userinterface.DukeResponse;
+import dukeprogram.userinterface.ResponseScheduler;
+import dukeprogram.userinterface.TextStyle;
+
+/**
+ * Tests involving the ResponseScheduler class, paused by hand rather than by the JavaFX application thread
+ */
+public class ResponseSchedulerTests {
+
+    /**
+     * A pause that only finishes when the test finishes it
+     */
+    private static class ManualPause implements ResponseScheduler.Pause {
+        private final List<Double> delays = new ArrayList<>();
+        private Runnable onFinished;
+
+        @Override
+        public void play(double millis, Runnable onFinished) {
+            delays.add(millis);
+            this.onFinished = onFinished;
+        }
+
+        @Override
+        public void stop() {
+            onFinished = null;
+        }
+
+        private void finish() {
+            Runnable action = onFinished;
+            onFinished = null;
+            action.run();
+        }
+    }
+
+    private final ManualPause pause = new ManualPause();
+    private final List<Integer> frameSizes = new ArrayList<>();
+    private final ResponseScheduler scheduler = new ResponseScheduler(frame -> frameSizes.add(frame.size()), pause);
+
+    private void submit(int numberOfResponses) {
+        for (int i = 0; i < numberOfResponses; i++) {
+            scheduler.submit(new DukeResponse("response " + i, TextStyle.Regular));
+        }
+    }
+
+    /**
+     * Checks if fixed pacing pauses for the same time before every response, rendering one at a time
+     */
+    @Test
+    public void responseScheduler_fixedPacing() {
+        scheduler.setPacingPolicy(ResponseScheduler.PacingPolicy.Fixed);
+        submit(3);
+        assertTrue(frameSizes.isEmpty());
+
+        pause.finish();
+        pause.finish();
+        pause.finish();
+        assertEquals(List.of(1, 1, 1), frameSizes);
+        assertEquals(List.of(500.0, 500.0, 500.0), pause.delays);
+        assertNull(pause.onFinished);
+        assertEquals(3, scheduler.getMaxQueueDepth());
+    }
+
+    /**
+     * Checks if adaptive pacing shortens the pauses by the depth of the burst
+     */
+    @Test
+    public void responseScheduler_adaptivePacing() {
+        submit(4);
+        while (pause.onFinished != null) {
+            pause.finish();
+        }
+        assertEquals(List.of(1, 1, 1, 1), frameSizes);
+        assertEquals(List.of(500.0, 125.0, 125.0, 125.0), pause.delays);
+
+        // a new burst starts from the full pause again
+        submit(1);
+        assertEquals(500.0, pause.delays.get(pause.delays.size() - 1).doubleValue());
+    }
+
+    /**
+     * Checks if adaptive pacing renders the queue all at once only when it reaches the coalescing depth
+     */
+    @Test
+    public void responseScheduler_adaptiveCoalescingThreshold() {
+        submit(7);
+        pause.finish();
+        assertEquals(List.of(1), frameSizes);
+        while (pause.onFinished != null) {
+            pause.finish();
+        }
+
+        frameSizes.clear();
+        submit(8);
+        pause.finish();
+        assertEquals(List.of(8), frameSizes);
+        assertNull(pause.onFinished);
+        assertEquals(0, scheduler.getQueueDepth());
+    }
+
+    /**
+     * Checks if instant pacing renders every response as it is submitted, without pausing
+     */
+    @Test
+    public void responseScheduler_instantPacing() {
+        scheduler.setPacingPolicy(ResponseScheduler.PacingPolicy.Instant);
+        submit(3);
+        assertEquals(List.of(1, 1, 1), frameSizes);
+        assertTrue(pause.delays.isEmpty());
+        assertEquals(3, scheduler.getNumberOfFrames());
+        assertEquals(3, scheduler.getNumberOfRenderedResponses());
+    }
+
+    /**
+     * Checks if switching to instant pacing renders the responses still waiting at once
+     */
+    @Test
+    public void responseScheduler_switchToInstantFlushesQueue() {
+        submit(3);
+        scheduler.setPacingPolicy(ResponseScheduler.PacingPolicy.Instant);
+        assertEquals(List.of(3), frameSizes);
+        assertNull(pause.onFinished);
+        assertEquals(0, scheduler.getQueueDepth());
+    }
+}
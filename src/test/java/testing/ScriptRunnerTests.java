@@ -0,0 +1,184 @@
+package testing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import dukeprogram.ScriptRunner;
+import dukeprogram.userinterface.JsonResponseSink;
+import dukeprogram.userinterface.ResponseSink;
+
+/**
+ * Tests involving the ScriptRunner class, which write to the save file under the user home of the tests
+ */
+public class ScriptRunnerTests {
+
+    private static final Path SAVE_FILE = Path.of(
+            System.getProperty("user.home"), "CS2103T", "DukeData", "savefile.json");
+
+    @BeforeEach
+    public void deleteSaveFile() throws IOException {
+        Files.deleteIfExists(SAVE_FILE);
+    }
+
+    /**
+     * Checks if the save file is only written once every given number of saves while the script runs
+     */
+    @Test
+    public void scriptRunner_commitEveryFewSaves() throws IOException {
+        List<String> savedWhileRunning = new ArrayList<>();
+        ResponseSink responseSink = response -> savedWhileRunning.add(readSaveFile());
+
+        int numberOfCommands = new ScriptRunner(responseSink, 2).run(script(
+                "tasks add todo scriptTaskOne",
+                "tasks add todo scriptTaskTwo",
+                "tasks add todo scriptTaskThree",
+                "tasks list"));
+        assertEquals(4, numberOfCommands);
+
+        // the responses to the last command are sent after the third save, which is still deferred
+        String savedBeforeEnd = savedWhileRunning.get(savedWhileRunning.size() - 1);
+        assertTrue(savedBeforeEnd.contains("scriptTaskTwo"));
+        assertFalse(savedBeforeEnd.contains("scriptTaskThree"));
+
+        assertTrue(readSaveFile().contains("scriptTaskThree"));
+    }
+
+    /**
+     * Checks if every save deferred by the default interval is written once the script ends
+     */
+    @Test
+    public void scriptRunner_commitAtEnd() throws IOException {
+        List<String> savedWhileRunning = new ArrayList<>();
+        ResponseSink responseSink = response -> savedWhileRunning.add(readSaveFile());
+
+        new ScriptRunner(responseSink, Integer.MAX_VALUE).run(script(
+                "tasks add todo scriptTaskOne",
+                "tasks add todo scriptTaskTwo"));
+
+        for (String saved : savedWhileRunning) {
+            assertFalse(saved.contains("scriptTaskOne"));
+        }
+        String saved = readSaveFile();
+        assertTrue(saved.contains("scriptTaskOne"));
+        assertTrue(saved.contains("scriptTaskTwo"));
+    }
+
+    /**
+     * Checks if saying goodbye ends the script, without closing the program, and still writes the deferred saves
+     */
+    @Test
+    public void scriptRunner_byeEndsScript() throws IOException {
+        List<String> responses = new ArrayList<>();
+        ResponseSink responseSink = response -> responses.add(response.getText());
+
+        int numberOfCommands = new ScriptRunner(responseSink, Integer.MAX_VALUE).run(script(
+                "tasks add todo scriptTaskOne",
+                "bye",
+                "tasks add todo scriptTaskTwo"));
+        assertEquals(2, numberOfCommands);
+        assertEquals("Goodbye!", responses.get(responses.size() - 1));
+
+        String saved = readSaveFile();
+        assertTrue(saved.contains("scriptTaskOne"));
+        assertFalse(saved.contains("scriptTaskTwo"));
+    }
+
+    /**
+     * Checks if failing to write the save file at the end of a script is reported
+     */
+    @Test
+    public void scriptRunner_reportsFailedSave() throws IOException {
+        List<String> responses = new ArrayList<>();
+        ScriptRunner scriptRunner = new ScriptRunner(response -> responses.add(response.getText()), 10);
+
+        // a directory in the place of the save file cannot be written to
+        Files.createDirectories(SAVE_FILE);
+        try {
+            scriptRunner.run(script("tasks add todo scriptTaskOne"));
+        } finally {
+            Files.delete(SAVE_FILE);
+        }
+
+        assertFalse(scriptRunner.isSaved());
+        assertTrue(responses.contains("Hey, I tried to save this file, but I couldn't for some reason..."));
+    }
+
+    /**
+     * Checks if nothing but the responses is written to the standard output,
+     * so that every line of a script run with --json is JSON
+     */
+    @Test
+    public void scriptRunner_jsonOutputHasOnlyResponses() throws IOException {
+        ByteArrayOutputStream responses = new ByteArrayOutputStream();
+        ByteArrayOutputStream standardOutput = new ByteArrayOutputStream();
+        PrintStream originalOutput = System.out;
+        System.setOut(new PrintStream(standardOutput, true, StandardCharsets.UTF_8));
+        try {
+            new ScriptRunner(new JsonResponseSink(new PrintStream(responses, true, StandardCharsets.UTF_8)), 1)
+                    .run(script(
+                            "tasks add todo scriptTaskOne",
+                            "tasks delete all",
+                            "no",
+                            "tasks list"));
+        } finally {
+            System.setOut(originalOutput);
+        }
+
+        assertEquals("", standardOutput.toString(StandardCharsets.UTF_8));
+        ObjectMapper objectMapper = new ObjectMapper();
+        for (String line : responses.toString(StandardCharsets.UTF_8).split("\\R")) {
+            assertTrue(objectMapper.readTree(line).has("text"));
+        }
+    }
+
+    /**
+     * Checks if an argument that is not understood prints the usage, without running any commands
+     */
+    @Test
+    public void scriptRunner_unknownArgumentPrintsUsage() {
+        ByteArrayOutputStream standardError = new ByteArrayOutputStream();
+        PrintStream originalError = System.err;
+        InputStream originalInput = System.in;
+        System.setErr(new PrintStream(standardError, true, StandardCharsets.UTF_8));
+        System.setIn(new ByteArrayInputStream("tasks add todo scriptTaskOne".getBytes(StandardCharsets.UTF_8)));
+        try {
+            ScriptRunner.main(new String[] { "--batch", "--jsn" });
+        } finally {
+            System.setErr(originalError);
+            System.setIn(originalInput);
+        }
+
+        assertTrue(standardError.toString(StandardCharsets.UTF_8).startsWith("Usage:"));
+        assertFalse(Files.exists(SAVE_FILE));
+    }
+
+    private static BufferedReader script(String... lines) {
+        return new BufferedReader(new StringReader(String.join("\n", lines)));
+    }
+
+    private static String readSaveFile() {
+        try {
+            return Files.exists(SAVE_FILE) ? Files.readString(SAVE_FILE, StandardCharsets.UTF_8) : "";
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package testing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import dukeprogram.StartupTimer;
+
+/**
+ * Tests involving the StartupTimer class
+ */
+public class StartupTimerTests {
+
+    /**
+     * Checks if the phases are timed from the start, in the order they were recorded
+     */
+    @Test
+    public void startupTimer_recordsPhasesInOrder() {
+        AtomicLong now = new AtomicLong(1000);
+        StartupTimer startupTimer = new StartupTimer(1000, now::get);
+
+        now.set(1200);
+        startupTimer.mark("window shown");
+        now.set(1500);
+        startupTimer.mark("save file loaded");
+        now.set(1600);
+        startupTimer.mark("window shown");
+
+        Map<String, Long> phaseMillis = startupTimer.getPhaseMillis();
+        assertEquals(List.of("window shown", "save file loaded"), List.copyOf(phaseMillis.keySet()));
+        assertEquals(200, (long) phaseMillis.get("window shown"));
+        assertEquals(500, (long) phaseMillis.get("save file loaded"));
+    }
+
+    /**
+     * Checks if the first interactive frame is checked against the startup budget
+     */
+    @Test
+    public void startupTimer_checksFirstInteractiveFrameAgainstBudget() {
+        AtomicLong now = new AtomicLong(StartupTimer.FIRST_INTERACTIVE_FRAME_BUDGET_MILLIS);
+        assertTrue(new StartupTimer(0, now::get).markFirstInteractiveFrame());
+
+        now.set(StartupTimer.FIRST_INTERACTIVE_FRAME_BUDGET_MILLIS + 1);
+        assertFalse(new StartupTimer(0, now::get).markFirstInteractiveFrame());
+    }
+
+    /**
+     * Checks if nothing is printed until the phases are reported, after which the phases already recorded
+     * and every later one are printed
+     */
+    @Test
+    public void startupTimer_printsOnlyWhenReported() {
+        ByteArrayOutputStream standardOutput = new ByteArrayOutputStream();
+        ByteArrayOutputStream report = new ByteArrayOutputStream();
+        PrintStream originalOutput = System.out;
+        System.setOut(new PrintStream(standardOutput, true, StandardCharsets.UTF_8));
+        try {
+            AtomicLong now = new AtomicLong(100);
+            StartupTimer startupTimer = new StartupTimer(0, now::get);
+            startupTimer.mark("toolkit started");
+
+            startupTimer.reportTo(new PrintStream(report, true, StandardCharsets.UTF_8));
+            now.set(StartupTimer.FIRST_INTERACTIVE_FRAME_BUDGET_MILLIS + 1);
+            startupTimer.markFirstInteractiveFrame();
+        } finally {
+            System.setOut(originalOutput);
+        }
+
+        assertEquals("", standardOutput.toString(StandardCharsets.UTF_8));
+        List<String> lines = List.of(report.toString(StandardCharsets.UTF_8).split("\\R"));
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).startsWith("Startup: toolkit started"));
+        assertTrue(lines.get(1).startsWith("Startup: first interactive frame"));
+        assertTrue(lines.get(2).startsWith("Startup: over the budget"));
+    }
+}
@@ -1,10 +1,18 @@
 package testing;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import utilities.StringUtilities;
+import utilities.TextWidthCache;
+import utilities.Tokenizer;
 
 /**
  * Testcases that involve the StringUtilties class
@@ -113,4 +121,115 @@ public class StringUtilityTests {
                 StringUtilities.splitStringArray(arr, "o")
         );
     }
+
+    /**
+     * Checks if the tokenizer ignores runs of whitespace instead of yielding empty tokens
+     */
+    @Test
+    public void tokenizer_ignoresRepeatedWhitespace() {
+        List<String> tokens = new ArrayList<>();
+        new Tokenizer("  tasks   add\ttodo  ").forEachRemaining(tokens::add);
+        assertEquals(List.of("tasks", "add", "todo"), tokens);
+        assertFalse(new Tokenizer("   ").hasNext());
+    }
+
+    /**
+     * Checks if the tokenizer reads a quoted argument as a single token without its quotes
+     */
+    @Test
+    public void tokenizer_readsQuotedArguments() {
+        Tokenizer tokenizer = new Tokenizer("set name \"John  Smith\"");
+        assertTrue(tokenizer.nextEquals("set"));
+        tokenizer.skip();
+        assertEquals("name", tokenizer.peek());
+        assertEquals("name", tokenizer.next());
+        assertEquals(10, tokenizer.getOffset());
+        assertEquals(11, tokenizer.getLength());
+        assertEquals("John  Smith", tokenizer.remainder());
+        assertFalse(tokenizer.hasNext());
+    }
+
+    /**
+     * Checks if copying until a delimiter from a tokenizer matches copying from an iterator
+     */
+    @Test
+    public void tokenizer_copiesUntilDelimiter() {
+        Tokenizer tokenizer = new Tokenizer("read book /by 8 Dec 2022");
+        assertEquals("read book", StringUtilities.copyUntilDelimiter(tokenizer, "/by"));
+        assertEquals("8 Dec 2022", StringUtilities.concatByDelimiter(tokenizer, " "));
+
+        Tokenizer noDelimiter = new Tokenizer("read book");
+        assertEquals("read book", StringUtilities.copyUntilDelimiter(noDelimiter, "/by"));
+        assertEquals("", StringUtilities.concatByDelimiter(noDelimiter, " "));
+    }
+
+    /**
+     * Checks if quoted tokens lose their quotes when copied with other tokens,
+     * and are never taken as the delimiter
+     */
+    @Test
+    public void tokenizer_copiesQuotedTokens() {
+        assertEquals("a b  c", new Tokenizer("\"a b\"  c").remainder());
+        assertEquals("say /by now", new Tokenizer("say \"/by\" now").remainder());
+
+        Tokenizer tokenizer = new Tokenizer("read \"/by\" notes /by 8 Dec 2022");
+        assertEquals("read /by notes", StringUtilities.copyUntilDelimiter(tokenizer, "/by"));
+        assertEquals("8 Dec 2022", StringUtilities.concatByDelimiter(tokenizer, " "));
+
+        Tokenizer onlyQuoted = new Tokenizer("\"/by\" /by tomorrow");
+        assertEquals("/by", StringUtilities.copyUntilDelimiter(onlyQuoted, "/by"));
+        assertEquals("tomorrow", onlyQuoted.remainder());
+    }
+
+    /**
+     * Checks if the widths of Latin-1 text are added up from the advance of each glyph,
+     * and if any other text is laid out once and then remembered
+     */
+    @Test
+    public void textWidthCache_addsGlyphAdvancesAndMemoizes() {
+        List<String> laidOut = new ArrayList<>();
+        TextWidthCache cache = new TextWidthCache(text -> {
+            laidOut.add(text);
+            return text.length() * 5.0;
+        }, 16);
+
+        assertEquals(20.0, cache.measure("abba"));
+        assertEquals(15.0, cache.measure("ab\nbab"));
+        assertEquals(List.of("a", "b"), laidOut);
+
+        assertEquals(10.0, cache.measure("\u4f60\u597d"));
+        assertEquals(10.0, cache.measure("\u4f60\u597d"));
+        assertEquals(List.of("a", "b", "\u4f60\u597d"), laidOut);
+    }
+
+    /**
+     * Checks if the least recently used widths are forgotten once the cache is full
+     */
+    @Test
+    public void textWidthCache_evictsLeastRecentlyUsed() {
+        List<String> laidOut = new ArrayList<>();
+        TextWidthCache cache = new TextWidthCache(text -> {
+            laidOut.add(text);
+            return text.length();
+        }, 2);
+
+        cache.measure("\u03b1");
+        cache.measure("\u03b2");
+        cache.measure("\u03b1");
+        cache.measure("\u03b3");
+        cache.measure("\u03b1");
+        cache.measure("\u03b2");
+        assertEquals(List.of("\u03b1", "\u03b2", "\u03b3", "\u03b2"), laidOut);
+        assertEquals(2, cache.getSize());
+    }
+
+    /**
+     * Checks if names are trimmed, have their whitespace collapsed and are case folded
+     */
+    @Test
+    public void normalizeName() {
+        assertEquals("alice tan", StringUtilities.normalizeName("  Alice \t TAN "));
+        assertEquals("bob", StringUtilities.normalizeName("bob"));
+        assertEquals("", StringUtilities.normalizeName("   "));
+    }
 }
@@ -3,16 +3,28 @@ package testing;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
+import dukeprogram.Duke;
 import dukeprogram.facilities.TaskList;
+import dukeprogram.parser.TaskSelectionParser;
 import dukeprogram.tasks.Deadline;
 import dukeprogram.tasks.Event;
 import dukeprogram.tasks.Task;
 import dukeprogram.tasks.ToDo;
+import exceptions.InvalidCommandException;
+import utilities.PersistentList;
 
 
 /**
@@ -173,4 +185,126 @@ public class TaskListTests {
         taskList.clear();
         assertEquals(0, taskList.getSize());
     }
+
+    /**
+     * Checks if ranges, indices and "find:" select tasks, and single indices or names are left to the caller
+     */
+    @Test
+    public void taskList_selectsManyTasks() throws InvalidCommandException {
+        TaskList taskList = new TaskList();
+        for (int i = 1; i <= 10; i++) {
+            taskList.add(new ToDo(i % 2 == 0 ? "report " + i : "task " + i));
+        }
+
+        assertArrayEquals(new int[] { 0, 1, 2, 3 }, TaskSelectionParser.parse("1-4", taskList));
+        assertArrayEquals(new int[] { 2, 6, 7, 8 }, TaskSelectionParser.parse("9,3, 7-8,3", taskList));
+        assertArrayEquals(new int[] { 1, 3, 5, 7, 9 }, TaskSelectionParser.parse("find:report", taskList));
+        assertArrayEquals(new int[0], TaskSelectionParser.parse("find:missing", taskList));
+        assertThrows(InvalidCommandException.class, () -> TaskSelectionParser.parse("find:", taskList));
+        assertThrows(InvalidCommandException.class, () -> TaskSelectionParser.parse("find:  ", taskList));
+        assertNull(TaskSelectionParser.parse("3", taskList));
+        assertNull(TaskSelectionParser.parse("follow-up", taskList));
+        assertThrows(InvalidCommandException.class, () -> TaskSelectionParser.parse("5-11", taskList));
+        assertThrows(InvalidCommandException.class, () -> TaskSelectionParser.parse("0,2", taskList));
+        assertThrows(InvalidCommandException.class, () -> TaskSelectionParser.parse("4-2", taskList));
+    }
+
+    /**
+     * Checks if "find:" takes its text literally, even if it contains the special characters of patterns
+     */
+    @Test
+    public void taskList_selectsByTextWithPatternCharacters() throws InvalidCommandException {
+        TaskList taskList = new TaskList();
+        taskList.add(new ToDo("learn c++"));
+        taskList.add(new ToDo("learn c"));
+        taskList.add(new ToDo("fix (urgent) bug"));
+        taskList.add(new ToDo("pay $5.00 [cash]"));
+
+        assertArrayEquals(new int[] { 0 }, TaskSelectionParser.parse("find:c++", taskList));
+        assertArrayEquals(new int[] { 2 }, TaskSelectionParser.parse("find:(", taskList));
+        assertArrayEquals(new int[] { 3 }, TaskSelectionParser.parse("find:$5.00 [", taskList));
+        assertArrayEquals(new int[0], TaskSelectionParser.parse("find:c.+", taskList));
+    }
+
+    /**
+     * Checks if deleting with "find:" and no text deletes nothing.
+     * The save file is written under the user home of the tests.
+     */
+    @Test
+    public void taskList_deleteWithBlankFindDeletesNothing() throws IOException {
+        Files.deleteIfExists(Path.of(System.getProperty("user.home"), "CS2103T", "DukeData", "savefile.json"));
+        Duke duke = new Duke(response -> { });
+        duke.parseInput("tasks add todo first");
+        duke.parseInput("tasks add todo second");
+
+        duke.parseInput("tasks delete find:");
+        assertEquals(2, duke.getTaskList().getSize());
+    }
+
+    /**
+     * Checks if many tasks are removed at once, keeping the order of the rest
+     */
+    @Test
+    public void taskList_removesManyTasks() {
+        TaskList taskList = new TaskList();
+        Task[] tasks = new Task[6];
+        for (int i = 0; i < tasks.length; i++) {
+            tasks[i] = new ToDo("task " + i);
+            taskList.add(tasks[i]);
+        }
+
+        assertEquals(List.of(tasks[0], tasks[3], tasks[5]), taskList.removeAll(new int[] { 0, 3, 5 }));
+        assertArrayEquals(new Task[] { tasks[1], tasks[2], tasks[4] }, taskList.getAllTasks());
+    }
+
+    /**
+     * Checks if a snapshot of the task list stays the same as the task list is changed
+     */
+    @Test
+    public void taskList_snapshotsAreUnchanged() {
+        TaskList taskList = new TaskList();
+        Task taskA = new ToDo("taskA");
+        Task taskB = new ToDo("taskB");
+        taskList.add(taskA);
+        taskList.add(taskB);
+
+        PersistentList<Task> snapshot = taskList.getSnapshot();
+        taskList.remove(0);
+        taskList.add(new ToDo("taskC"));
+        taskList.clear();
+
+        assertEquals(List.of(taskA, taskB), snapshot.toList());
+        assertEquals(0, taskList.getSize());
+    }
+
+    /**
+     * Checks if random changes to a persistent list give the same elements as an array list
+     */
+    @Test
+    public void persistentList_matchesArrayList() {
+        Random random = new Random(50);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            } else if (operation == 1 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.set(index, i);
+            } else {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.insert(index, i);
+            }
+        }
+
+        assertEquals(expected, actual.toList());
+        assertEquals(expected.get(expected.size() / 2), actual.get(expected.size() / 2));
+        assertEquals(expected, PersistentList.of(expected).toList());
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.empty().get(0));
+    }
 }
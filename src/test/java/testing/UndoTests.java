@@ -0,0 +1,149 @@
+package testing;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import dukeprogram.facilities.Edit;
+import dukeprogram.facilities.Loan;
+import dukeprogram.facilities.LoanCollection;
+import dukeprogram.facilities.TaskList;
+import dukeprogram.facilities.UndoHistory;
+import dukeprogram.tasks.Task;
+import dukeprogram.tasks.ToDo;
+import exceptions.KeyNotFoundException;
+
+/**
+ * Tests involving the UndoHistory class and the edits it undoes
+ */
+public class UndoTests {
+
+    private static Edit counterEdit(int[] counter, int amount) {
+        return Edit.of("add " + amount, () -> counter[0] -= amount, () -> counter[0] += amount);
+    }
+
+    /**
+     * Checks if edits are undone and redone in order, and recording an edit forgets those undone
+     */
+    @Test
+    public void undo_undoAndRedoInOrder() {
+        int[] counter = { 0 };
+        UndoHistory undoHistory = new UndoHistory(8);
+        for (int amount = 1; amount <= 3; amount++) {
+            counter[0] += amount;
+            undoHistory.record(counterEdit(counter, amount));
+        }
+
+        assertEquals("add 3", undoHistory.undo().getDescription());
+        undoHistory.undo();
+        assertEquals(1, counter[0]);
+        assertEquals("add 2", undoHistory.redo().getDescription());
+        assertEquals(3, counter[0]);
+
+        counter[0] += 10;
+        undoHistory.record(counterEdit(counter, 10));
+        assertNull(undoHistory.redo());
+        assertEquals(3, undoHistory.getNumberOfEditsToUndo());
+    }
+
+    /**
+     * Checks if only the most recent edits are kept once the ring buffer is full
+     */
+    @Test
+    public void undo_forgetsOldestEdits() {
+        int[] counter = { 0 };
+        UndoHistory undoHistory = new UndoHistory(4);
+        for (int amount = 1; amount <= 10; amount++) {
+            counter[0] += amount;
+            undoHistory.record(counterEdit(counter, amount));
+        }
+
+        while (undoHistory.undo() != null) {
+            continue;
+        }
+        assertEquals(1 + 2 + 3 + 4 + 5 + 6, counter[0]);
+        assertEquals(4, undoHistory.getNumberOfEditsToRedo());
+    }
+
+    /**
+     * Checks if deleting every task is undone by moving the same tasks back
+     */
+    @Test
+    public void undo_deleteAllTasks() {
+        TaskList taskList = new TaskList();
+        Task[] tasks = { new ToDo("a"), new ToDo("b"), new ToDo("c") };
+        for (Task task : tasks) {
+            taskList.add(task);
+        }
+
+        TaskList deletedTasks = new TaskList();
+        taskList.swapContents(deletedTasks);
+        assertEquals(0, taskList.getSize());
+
+        taskList.swapContents(deletedTasks);
+        assertArrayEquals(tasks, taskList.getAllTasks());
+    }
+
+    /**
+     * Checks if removing many tasks is undone by inserting them back where they were
+     */
+    @Test
+    public void undo_removeManyTasks() {
+        TaskList taskList = new TaskList();
+        Task[] tasks = new Task[8];
+        for (int i = 0; i < tasks.length; i++) {
+            tasks[i] = new ToDo("task " + i);
+            taskList.add(tasks[i]);
+        }
+
+        int[] indices = { 0, 2, 3, 7 };
+        List<Task> removedTasks = taskList.removeAll(indices);
+        taskList.insertAll(indices, removedTasks);
+        assertArrayEquals(tasks, taskList.getAllTasks());
+    }
+
+    /**
+     * Checks if clearing the loans of everyone, and adding to a loan, are undone with their totals
+     */
+    @Test
+    public void undo_clearAndAddLoans() throws KeyNotFoundException {
+        LoanCollection loanCollection = new LoanCollection();
+        loanCollection.add("Alice", 500);
+        loanCollection.add("Bob", -300);
+        loanCollection.recordDebt("Carol", "Dan", 200);
+
+        LoanCollection deletedLoans = new LoanCollection();
+        loanCollection.swapContents(deletedLoans);
+        assertEquals(0, loanCollection.getSize());
+        assertEquals(0, loanCollection.getNetCents());
+        assertEquals(0, loanCollection.getLedger().getNumberOfDebts());
+
+        loanCollection.swapContents(deletedLoans);
+        assertEquals(2, loanCollection.getSize());
+        assertEquals(200, loanCollection.getNetCents());
+        assertEquals(1, loanCollection.getLedger().getNumberOfDebts());
+
+        loanCollection.add("Alice", 250, 1000);
+        loanCollection.removeTransaction("Alice", 250, 1000);
+        Loan aliceLoan = loanCollection.get("Alice");
+        assertEquals(500, aliceLoan.getCents());
+        assertEquals(500, aliceLoan.getCentsAt(Long.MAX_VALUE));
+        assertEquals(500, loanCollection.getPayableCents());
+
+        Loan bobLoan = loanCollection.remove("Bob");
+        loanCollection.put(bobLoan);
+        assertEquals(300, loanCollection.getReceivableCents());
+        assertEquals("Bob", loanCollection.getMostLent(1).get(0).getCreditorName());
+
+        loanCollection.getLedger().removeLast();
+        assertEquals(0, loanCollection.getLedger().getBalance("Dan"));
+        assertTrue(loanCollection.containsKey("alice"));
+        assertFalse(loanCollection.getMostOwed(1).isEmpty());
+    }
+}
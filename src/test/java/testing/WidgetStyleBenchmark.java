@@ -0,0 +1,101 @@
+package testing;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.function.IntFunction;
+
+import dukeprogram.userinterface.TextStyle;
+import dukeprogram.userinterface.WidgetTaskLabel;
+import javafx.application.Platform;
+import javafx.geometry.Insets;
+import javafx.scene.Scene;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundFill;
+import javafx.scene.layout.CornerRadii;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+
+/**
+ * Measures how long a CSS pass takes over a thousand task rows. Each row used to be styled in place,
+ * with its own Background objects, inline style and CheckBox stylesheet, and is now styled by
+ * the shared style classes of ElementStyle.css. The CheckBox stylesheet is no longer shipped,
+ * so a copy of it is kept as a fixture in the benchmark-fixtures folder of the test resources.
+ * Run it headlessly with <code>gradlew benchmarkStyles</code>.
+ */
+public class WidgetStyleBenchmark {
+
+    private static final int NUMBER_OF_ROWS = 1000;
+    private static final int NUMBER_OF_WARMUP_PASSES = 5;
+    private static final int NUMBER_OF_MEASURED_PASSES = 20;
+
+    /**
+     * Runs the benchmark on the JavaFX application thread
+     * @param args unused
+     * @throws InterruptedException if interrupted while waiting for the benchmark to finish
+     */
+    public static void main(String[] args) throws InterruptedException {
+        CountDownLatch hasFinished = new CountDownLatch(1);
+        Platform.startup(() -> {
+            try {
+                run();
+            } finally {
+                hasFinished.countDown();
+            }
+        });
+        hasFinished.await();
+        Platform.exit();
+    }
+
+    private static void run() {
+        double inlineMillis = measureMillisPerPass(WidgetStyleBenchmark::createInlineStyledRow);
+        double sharedMillis = measureMillisPerPass(
+                i -> new WidgetTaskLabel("TODO", "task " + i, TextStyle.Regular, i % 2 == 0));
+
+        System.out.printf("CSS pass over %d inline styled rows: %8.2f ms%n", NUMBER_OF_ROWS, inlineMillis);
+        System.out.printf("CSS pass over %d shared style rows:  %8.2f ms%n", NUMBER_OF_ROWS, sharedMillis);
+    }
+
+    private static Region createInlineStyledRow(int i) {
+        Label typeLabel = new Label("TODO");
+        typeLabel.getStyleClass().add(TextStyle.Header.label);
+        typeLabel.setPadding(new Insets(5, 10, 5, 10));
+        typeLabel.setBackground(new Background(new BackgroundFill(Color.HOTPINK, new CornerRadii(20), Insets.EMPTY)));
+
+        Label taskLabel = new Label("task " + i);
+        taskLabel.getStyleClass().add(TextStyle.Regular.label);
+        taskLabel.setPadding(new Insets(5, 10, 5, 10));
+
+        CheckBox checkBox = new CheckBox();
+        checkBox.getStylesheets().add("benchmark-fixtures/CheckBox.css");
+        checkBox.setDisable(true);
+        checkBox.setSelected(i % 2 == 0);
+
+        HBox row = new HBox(5, new VBox(3, typeLabel), taskLabel, checkBox);
+        row.setPadding(new Insets(5, 5, 5, 5));
+        row.setBackground(new Background(new BackgroundFill(Color.DARKVIOLET, new CornerRadii(5), Insets.EMPTY)));
+        row.setStyle("-fx-border-width: 0 0 1 0; -fx-border-radius: 5; -fx-border-color: #002654;");
+        return row;
+    }
+
+    private static double measureMillisPerPass(IntFunction<Region> rowFactory) {
+        long elapsedNanos = 0;
+        for (int pass = 0; pass < NUMBER_OF_WARMUP_PASSES + NUMBER_OF_MEASURED_PASSES; pass++) {
+            VBox rows = new VBox();
+            for (int i = 0; i < NUMBER_OF_ROWS; i++) {
+                rows.getChildren().add(rowFactory.apply(i));
+            }
+            Scene scene = new Scene(rows);
+            scene.getStylesheets().add("/css/ElementStyle.css");
+
+            long startTime = System.nanoTime();
+            rows.applyCss();
+            if (pass >= NUMBER_OF_WARMUP_PASSES) {
+                elapsedNanos += System.nanoTime() - startTime;
+            }
+        }
+        return elapsedNanos / 1e6 / NUMBER_OF_MEASURED_PASSES;
+    }
+}